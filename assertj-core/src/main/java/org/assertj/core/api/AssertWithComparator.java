@@ -15,6 +15,8 @@ package org.assertj.core.api;
 import java.util.Comparator;
 import java.util.function.BiPredicate;
 
+import org.assertj.core.internal.NonOrderingComparator;
+
 public interface AssertWithComparator<SELF extends Assert<SELF, ACTUAL>, ACTUAL> {
   /**
    * Use the given custom comparator instead of relying on actual type A equals method for incoming assertion checks.
@@ -90,7 +92,9 @@ public interface AssertWithComparator<SELF extends Assert<SELF, ACTUAL>, ACTUAL>
    */
   @SuppressWarnings("ComparatorMethodParameterNotUsed")
   default SELF usingEquals(BiPredicate<? super ACTUAL, ? super ACTUAL> predicate, String customEqualsDescription) {
-    return usingComparator((o1, o2) -> predicate.test(o1, o2) ? 0 : -1, customEqualsDescription);
+    // not an order, elements compared with it are not sorted
+    NonOrderingComparator<ACTUAL> comparator = (o1, o2) -> predicate.test(o1, o2) ? 0 : -1;
+    return usingComparator(comparator, customEqualsDescription);
   }
 
   /**
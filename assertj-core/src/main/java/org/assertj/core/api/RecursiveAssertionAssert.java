@@ -404,4 +404,53 @@ public class RecursiveAssertionAssert extends AbstractAssertWithComparator<Recur
     recursiveAssertionConfiguration.setIntrospectionStrategy(introspectionStrategy);
     return this;
   }
+
+  /**
+   * Makes the recursive assertion evaluate the predicate over independent sub graphs in parallel using the given number of
+   * threads, the independent sub graphs are the elements of collections and arrays and the keys and values of maps.
+   * <p>
+   * This is useful when the predicate is expensive and the object graph is large, the predicate must be thread safe.
+   * The fields failing the assertion are reported in the same order whatever the parallelism is, but objects shared by
+   * several elements are evaluated in each of them instead of only once.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Map&lt;String, Person&gt; cache = loadCache();
+   *
+   * assertThat(cache).usingRecursiveAssertion()
+   *                  .withParallelism(4)
+   *                  .allFieldsSatisfy(field -&gt; validator.isValid(field));</code></pre>
+   *
+   * @param parallelism the number of threads used to assert over independent sub graphs.
+   * @return this {@link RecursiveAssertionAssert} to chain other methods.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  public RecursiveAssertionAssert withParallelism(int parallelism) {
+    recursiveAssertionConfiguration.setParallelism(parallelism);
+    return this;
+  }
+
+  /**
+   * Makes the recursive assertion stop once the given number of fields failing the predicate have been found, the rest of
+   * the object graph is not evaluated. By default, the whole object graph is evaluated.
+   * <p>
+   * This is useful to fail fast on large object graphs, the reported fields are the first ones found when walking the
+   * object graph. With {@link #withParallelism(int)}, the reported fields are the same, the elements asserted in parallel
+   * stop once the elements before them have found enough failing fields.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; persons = loadAllPersons();
+   *
+   * // stops at the first null field
+   * assertThat(persons).usingRecursiveAssertion()
+   *                    .withMaxFailures(1)
+   *                    .hasNoNullFields();</code></pre>
+   *
+   * @param maxFailures the number of fields failing the predicate after which the assertion stops.
+   * @return this {@link RecursiveAssertionAssert} to chain other methods.
+   * @throws IllegalArgumentException if maxFailures is less than 1.
+   */
+  public RecursiveAssertionAssert withMaxFailures(int maxFailures) {
+    recursiveAssertionConfiguration.setMaxFailures(maxFailures);
+    return this;
+  }
 }
@@ -22,7 +22,9 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.core.api.recursive.comparison.DefaultRecursiveComparisonIntrospectionStrategy;
@@ -37,7 +39,8 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SELF>>
     extends AbstractAssertWithComparator<SELF, Object> {
 
-  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  // replaced by a modifiable copy when frozen and modified, see configurationToModify()
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
   private final RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator;
 
   public RecursiveComparisonAssert(Object actual, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
@@ -89,6 +92,11 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * <p>
    * The recursive comparison handles cycles.
    * <p>
+   * <strong>Recursive comparison and shared values</strong>
+   * <p>
+   * Fields referencing the same instance in both objects are considered equal without being compared, unless a custom comparator
+   * applies to them. The comparator is used at each location it applies to, even if the instance was already met at another location.
+   * <p>
    * <strong>Comparator used in the recursive comparison</strong>
    * <p>
    * By default {@code floats} are compared with a precision of 1.0E-6 and {@code doubles} with 1.0E-15.
@@ -154,10 +162,21 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     // at this point expected is not null, which means actual must not be null for the assertion to pass
     objects.assertNotNull(info, actual);
     // at this point, both actual and expected are not null, we can compare them recursively!
-    List<ComparisonDifference> differences = determineDifferencesWith(expected);
+    // without listener the comparison stops after maxDifferences differences, with one all the differences are counted
+    Consumer<ComparisonDifference> differenceListener = recursiveComparisonConfiguration.getDifferenceListener();
+    AtomicInteger differencesCount = new AtomicInteger();
+    List<ComparisonDifference> differences = differenceListener == null
+        ? determineDifferencesWith(expected)
+        : recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration,
+                                                                       difference -> {
+                                                                         differencesCount.incrementAndGet();
+                                                                         differenceListener.accept(difference);
+                                                                       });
+    if (differenceListener == null) differencesCount.set(differences.size());
     if (!differences.isEmpty()) throw objects.getFailures().failure(info, shouldBeEqualByComparingFieldByFieldRecursively(actual,
                                                                                                                           expected,
                                                                                                                           differences,
+                                                                                                                          differencesCount.get(),
                                                                                                                           recursiveComparisonConfiguration,
                                                                                                                           info.representation()));
     return myself;
@@ -487,7 +506,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public SELF comparingOnlyFields(String... fieldNamesToCompare) {
-    recursiveComparisonConfiguration.compareOnlyFields(fieldNamesToCompare);
+    configurationToModify().compareOnlyFields(fieldNamesToCompare);
     return myself;
   }
 
@@ -548,7 +567,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public SELF comparingOnlyFieldsOfTypes(Class<?>... typesToCompare) {
-    recursiveComparisonConfiguration.compareOnlyFieldsOfTypes(typesToCompare);
+    configurationToModify().compareOnlyFieldsOfTypes(typesToCompare);
     return myself;
   }
 
@@ -593,7 +612,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringActualNullFields() {
-    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    configurationToModify().setIgnoreAllActualNullFields(true);
     return myself;
   }
 
@@ -645,7 +664,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringActualEmptyOptionalFields() {
-    recursiveComparisonConfiguration.setIgnoreAllActualEmptyOptionalFields(true);
+    configurationToModify().setIgnoreAllActualEmptyOptionalFields(true);
     return myself;
   }
 
@@ -690,7 +709,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringExpectedNullFields() {
-    recursiveComparisonConfiguration.setIgnoreAllExpectedNullFields(true);
+    configurationToModify().setIgnoreAllExpectedNullFields(true);
     return myself;
   }
 
@@ -738,7 +757,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringFields(String... fieldNamesToIgnore) {
-    recursiveComparisonConfiguration.ignoreFields(fieldNamesToIgnore);
+    configurationToModify().ignoreFields(fieldNamesToIgnore);
     return myself;
   }
 
@@ -787,7 +806,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringFieldsMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(regexes);
+    configurationToModify().ignoreFieldsMatchingRegexes(regexes);
     return myself;
   }
 
@@ -839,7 +858,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public RecursiveComparisonAssert<?> ignoringFieldsOfTypes(Class<?>... typesToIgnore) {
-    recursiveComparisonConfiguration.ignoreFieldsOfTypes(typesToIgnore);
+    configurationToModify().ignoreFieldsOfTypes(typesToIgnore);
     return myself;
   }
 
@@ -896,7 +915,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public RecursiveComparisonAssert<?> ignoringFieldsOfTypesMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreFieldsOfTypesMatchingRegexes(regexes);
+    configurationToModify().ignoreFieldsOfTypesMatchingRegexes(regexes);
     return myself;
   }
 
@@ -955,7 +974,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public SELF ignoringAllOverriddenEquals() {
-    recursiveComparisonConfiguration.ignoreAllOverriddenEquals();
+    configurationToModify().ignoreAllOverriddenEquals();
     return myself;
   }
 
@@ -1012,7 +1031,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @since 3.17.0
    */
   public SELF usingOverriddenEquals() {
-    recursiveComparisonConfiguration.useOverriddenEquals();
+    configurationToModify().useOverriddenEquals();
     return myself;
   }
 
@@ -1077,7 +1096,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringOverriddenEqualsForFields(String... fields) {
-    recursiveComparisonConfiguration.ignoreOverriddenEqualsForFields(fields);
+    configurationToModify().ignoreOverriddenEqualsForFields(fields);
     return myself;
   }
 
@@ -1140,7 +1159,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringOverriddenEqualsForTypes(Class<?>... types) {
-    recursiveComparisonConfiguration.ignoreOverriddenEqualsForTypes(types);
+    configurationToModify().ignoreOverriddenEqualsForTypes(types);
     return myself;
   }
 
@@ -1202,7 +1221,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringOverriddenEqualsForFieldsMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreOverriddenEqualsForFieldsMatchingRegexes(regexes);
+    configurationToModify().ignoreOverriddenEqualsForFieldsMatchingRegexes(regexes);
     return myself;
   }
 
@@ -1240,7 +1259,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringCollectionOrder() {
-    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    configurationToModify().ignoreCollectionOrder(true);
     return myself;
   }
 
@@ -1285,7 +1304,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
-    recursiveComparisonConfiguration.ignoreCollectionOrderInFields(fieldsToIgnoreCollectionOrder);
+    configurationToModify().ignoreCollectionOrderInFields(fieldsToIgnoreCollectionOrder);
     return myself;
   }
 
@@ -1333,7 +1352,131 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringCollectionOrderInFieldsMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreCollectionOrderInFieldsMatchingRegexes(regexes);
+    configurationToModify().ignoreCollectionOrderInFieldsMatchingRegexes(regexes);
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison pair the elements of the collections compared ignoring their order by using a structural
+   * fingerprint of the elements before comparing them recursively.
+   * <p>
+   * By default, the recursive comparison uses the elements {@code hashCode} to find the actual element to compare to an
+   * expected one first, this is not relevant when {@code hashCode} is computed from ignored fields (like generated ids),
+   * in that case each expected element ends up being compared to most of the actual elements. The structural fingerprint
+   * is computed from the fields compared in the recursive comparison, ignored fields and fields compared with custom
+   * comparators don't participate in it.
+   * <p>
+   * The elements are also matched optimally, that is an expected element is not reported as unmatched when the actual
+   * element it matches was already matched to another expected element that could have been matched to a different actual
+   * element, this can happen when ignoring fields or using lenient comparators.
+   * <p>
+   * Example:
+   * <pre><code class='java'> class Person {
+   *   UUID id;
+   *   String name;
+   *   // equals and hashCode use the id field only
+   * }
+   *
+   * List&lt;Person&gt; actual = list(new Person(randomUUID(), "Sherlock Holmes"), new Person(randomUUID(), "Dr. John Watson"));
+   * List&lt;Person&gt; expected = list(new Person(randomUUID(), "Dr. John Watson"), new Person(randomUUID(), "Sherlock Holmes"));
+   *
+   * // assertion succeeds, persons are paired by name as the id is ignored
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .ignoringFields("id")
+   *                   .ignoringCollectionOrder()
+   *                   .matchingCollectionElementsByFingerprint()
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   */
+  @CheckReturnValue
+  public SELF matchingCollectionElementsByFingerprint() {
+    configurationToModify().matchCollectionElementsByFingerprint(true);
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison compare independent sub graphs in parallel using the given number of threads, the
+   * independent sub graphs are the elements of ordered collections and arrays and the values of maps.
+   * <p>
+   * This is useful to compare very large graphs, like two snapshots of a cache with millions of entries. The differences
+   * reported are the same whatever the parallelism is, except for values shared by several elements which are compared in
+   * each of them instead of being reported once as already visited.
+   * <p>
+   * The comparison is not done in parallel when comparing only some types (see {@link #comparingOnlyFieldsOfTypes(Class[])}).
+   * <p>
+   * Example:
+   * <pre><code class='java'> Map&lt;String, Person&gt; actualCache = loadCache();
+   * Map&lt;String, Person&gt; expectedCache = loadCacheFromBackup();
+   *
+   * assertThat(actualCache).usingRecursiveComparison()
+   *                        .withParallelism(4)
+   *                        .isEqualTo(expectedCache);</code></pre>
+   *
+   * @param parallelism the number of threads used to compare independent sub graphs.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    configurationToModify().setParallelism(parallelism);
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison report at most the given number of differences, the comparison stops as soon as it
+   * has found them and the error message mentions that there may be more differences.
+   * <p>
+   * This keeps the error message readable and limits the time and memory spent when comparing large graphs that differ a
+   * lot, the differences reported are the first ones found, sorted by path.
+   * <p>
+   * When a {@link #withDifferenceListener(Consumer) difference listener} is set, the whole graph is compared to notify it
+   * of all the differences, the error message then tells how many differences were not reported.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; actual = loadPersons();
+   * List&lt;Person&gt; expected = loadPersonsFromBackup();
+   *
+   * // the comparison stops after finding 10 differences, the error reports them
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withMaxDifferences(10)
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param maxDifferences the maximum number of differences to report.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if maxDifferences is less than 1.
+   */
+  @CheckReturnValue
+  public SELF withMaxDifferences(int maxDifferences) {
+    configurationToModify().setMaxDifferences(maxDifferences);
+    return myself;
+  }
+
+  /**
+   * Notifies the given listener of each difference as soon as the recursive comparison finds it, this allows to consume
+   * all the differences incrementally, for example to write them to a file, while only
+   * {@link #withMaxDifferences(int) maxDifferences} of them are kept in memory and reported in the error message.
+   * <p>
+   * The listener is called in the thread running the assertion, in the order the differences are found which is not the
+   * order of the reported differences.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; actual = loadPersons();
+   * List&lt;Person&gt; expected = loadPersonsFromBackup();
+   *
+   * // the error reports the first 10 differences and "and N more differences", all of them are logged
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withMaxDifferences(10)
+   *                   .withDifferenceListener(difference -&gt; logger.info(difference.toString()))
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param differenceListener the listener notified of each difference found.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws NullPointerException if the given listener is null.
+   */
+  @CheckReturnValue
+  public SELF withDifferenceListener(Consumer<ComparisonDifference> differenceListener) {
+    configurationToModify().setDifferenceListener(differenceListener);
     return myself;
   }
 
@@ -1395,7 +1538,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withStrictTypeChecking() {
-    recursiveComparisonConfiguration.strictTypeChecking(true);
+    configurationToModify().strictTypeChecking(true);
     return myself;
   }
 
@@ -1442,7 +1585,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withEqualsForFields(BiPredicate<?, ?> equals, String... fieldLocations) {
-    recursiveComparisonConfiguration.registerEqualsForFields(equals, fieldLocations);
+    configurationToModify().registerEqualsForFields(equals, fieldLocations);
     return myself;
   }
 
@@ -1493,7 +1636,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @since 3.24.0
    */
   public SELF withEqualsForFieldsMatchingRegexes(BiPredicate<?, ?> equals, String... regexes) {
-    recursiveComparisonConfiguration.registerEqualsForFieldsMatchingRegexes(equals, regexes);
+    configurationToModify().registerEqualsForFieldsMatchingRegexes(equals, regexes);
     return myself;
   }
 
@@ -1539,7 +1682,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withComparatorForFields(Comparator<?> comparator, String... fieldLocations) {
-    recursiveComparisonConfiguration.registerComparatorForFields(comparator, fieldLocations);
+    configurationToModify().registerComparatorForFields(comparator, fieldLocations);
     return myself;
   }
 
@@ -1583,7 +1726,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public <T> SELF withComparatorForType(Comparator<? super T> comparator, Class<T> type) {
-    recursiveComparisonConfiguration.registerComparatorForType(comparator, type);
+    configurationToModify().registerComparatorForType(comparator, type);
     return myself;
   }
 
@@ -1627,7 +1770,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public <T> SELF withEqualsForType(BiPredicate<? super T, ? super T> equals, Class<T> type) {
-    recursiveComparisonConfiguration.registerEqualsForType(equals, type);
+    configurationToModify().registerEqualsForType(equals, type);
     return myself;
   }
 
@@ -1689,7 +1832,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withErrorMessageForFields(String message, String... fieldLocations) {
-    recursiveComparisonConfiguration.registerErrorMessageForFields(message, fieldLocations);
+    configurationToModify().registerErrorMessageForFields(message, fieldLocations);
     return myself;
   }
 
@@ -1747,7 +1890,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withErrorMessageForType(String message, Class<?> type) {
-    recursiveComparisonConfiguration.registerErrorMessageForType(message, type);
+    configurationToModify().registerErrorMessageForType(message, type);
     return myself;
   }
 
@@ -1765,7 +1908,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withIntrospectionStrategy(RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
-    recursiveComparisonConfiguration.setIntrospectionStrategy(introspectionStrategy);
+    configurationToModify().setIntrospectionStrategy(introspectionStrategy);
     return myself;
   }
 
@@ -1802,7 +1945,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withEnumStringComparison() {
-    recursiveComparisonConfiguration.allowComparingEnumAgainstString(true);
+    configurationToModify().allowComparingEnumAgainstString(true);
     return myself;
   }
 
@@ -1818,6 +1961,12 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     withComparatorForType((Comparator) entry.getValue(), entry.getKey());
   }
 
+  // frozen configurations can be shared, they are left untouched and this assertion modifies its own copy instead
+  private RecursiveComparisonConfiguration configurationToModify() {
+    recursiveComparisonConfiguration = recursiveComparisonConfiguration.unfrozen();
+    return recursiveComparisonConfiguration;
+  }
+
   /**
    * Returns the {@link RecursiveComparisonConfiguration} currently used.
    *
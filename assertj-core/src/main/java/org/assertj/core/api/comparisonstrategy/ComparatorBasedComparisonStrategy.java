@@ -14,14 +14,21 @@ package org.assertj.core.api.comparisonstrategy;
 
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
+import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import org.assertj.core.internal.DescribableComparator;
+import org.assertj.core.internal.NonOrderingComparator;
 
 /**
  * Implements {@link ComparisonStrategy} contract with a comparison strategy based on a {@link Comparator}.
@@ -39,6 +46,9 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   // Comparator description used in assertion messages.
   private final String comparatorDescription;
 
+  // whether the elements can be sorted with the comparator in the bulk operations
+  private final boolean comparatorIsAnOrder;
+
   /**
    * Creates a new <code>{@link ComparatorBasedComparisonStrategy}</code> specifying the comparison strategy with given
    * comparator.
@@ -61,6 +71,7 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
                                            String comparatorDescription) {
     this.comparator = comparator;
     this.comparatorDescription = comparatorDescription;
+    this.comparatorIsAnOrder = isOrder(comparator);
   }
 
   /**
@@ -162,6 +173,117 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     return super.duplicatesFrom(iterable);
   }
 
+  /**
+   * Returns the elements of {@code actual} that are not equal to any of the {@code expected} elements according to
+   * {@link #comparator}, in {@code actual} order.
+   * <p>
+   * When {@link #comparator} defines an order, i.e. is not a {@link NonOrderingComparator}, the {@code expected}
+   * elements are sorted once so that each {@code actual} element is looked for by binary search, otherwise each
+   * {@code actual} element is compared to the {@code expected} elements one by one.
+   *
+   * @param actual the elements to look for in {@code expected}
+   * @param expected the elements to look into
+   * @return the elements of {@code actual} that are not equal to any of the {@code expected} elements.
+   */
+  @Override
+  public List<Object> iterableUnexpectedElements(Iterable<?> actual, Iterable<?> expected) {
+    SortedElements sortedExpected = new SortedElements(expected);
+    List<Object> unexpectedElements = new ArrayList<>();
+    for (Object actualElement : actual) {
+      if (!sortedExpected.containsElementEqualTo(actualElement, true)) unexpectedElements.add(actualElement);
+    }
+    return unexpectedElements;
+  }
+
+  /**
+   * Returns the elements of {@code expected} that are not equal to any of the {@code actual} elements according to
+   * {@link #comparator}, in {@code expected} order.
+   * <p>
+   * When {@link #comparator} defines an order, i.e. is not a {@link NonOrderingComparator}, the {@code actual} elements
+   * are sorted once so that each {@code expected} element is looked for by binary search, otherwise each
+   * {@code expected} element is compared to the {@code actual} elements one by one.
+   *
+   * @param actual the elements to look into
+   * @param expected the elements to look for in {@code actual}
+   * @return the elements of {@code expected} that are not equal to any of the {@code actual} elements.
+   */
+  @Override
+  public List<Object> iterableMissingElements(Iterable<?> actual, Iterable<?> expected) {
+    SortedElements sortedActual = new SortedElements(actual);
+    List<Object> missingElements = new ArrayList<>();
+    for (Object expectedElement : expected) {
+      if (!sortedActual.containsElementEqualTo(expectedElement, false)) missingElements.add(expectedElement);
+    }
+    return missingElements;
+  }
+
+  /**
+   * Returns the elements of {@code actual} left once each of them has been paired with a distinct equal {@code expected}
+   * element according to {@link #comparator}, in {@code actual} order.
+   * <p>
+   * When {@link #comparator} defines an order, i.e. is not a {@link NonOrderingComparator}, the {@code expected}
+   * elements are sorted once and each {@code actual} element is paired with the next unpaired element of its equal
+   * elements range found by binary search, otherwise the elements are paired by comparing them one by one.
+   *
+   * @param actual the elements to pair with the {@code expected} ones
+   * @param expected the elements to pair with the {@code actual} ones
+   * @return the elements of {@code actual} that could not be paired with an {@code expected} element.
+   */
+  @Override
+  public List<Object> iterableUnmatchedActualElements(Iterable<?> actual, Iterable<?> expected) {
+    return new SortedElements(expected).unpairedElementsOf(actual, true);
+  }
+
+  /**
+   * Returns the elements of {@code expected} left once each of them has been paired with a distinct equal {@code actual}
+   * element according to {@link #comparator}, in {@code expected} order.
+   * <p>
+   * When {@link #comparator} defines an order, i.e. is not a {@link NonOrderingComparator}, the {@code actual} elements
+   * are sorted once and each {@code expected} element is paired with the next unpaired element of its equal elements
+   * range found by binary search, otherwise the elements are paired by comparing them one by one.
+   *
+   * @param actual the elements to pair with the {@code expected} ones
+   * @param expected the elements to pair with the {@code actual} ones
+   * @return the elements of {@code expected} that could not be paired with an {@code actual} element.
+   */
+  @Override
+  public List<Object> iterableUnmatchedExpectedElements(Iterable<?> actual, Iterable<?> expected) {
+    return new SortedElements(actual).unpairedElementsOf(expected, false);
+  }
+
+  /**
+   * Returns a predicate telling whether the given {@link Iterable} contains a value according to {@link #comparator}, as
+   * {@link #iterableContains(Iterable, Object)} does.
+   * <p>
+   * When {@link #comparator} defines an order, i.e. is not a {@link NonOrderingComparator}, the elements are sorted
+   * once so that each value is looked for by binary search, otherwise each value is compared to the elements one by one.
+   *
+   * @param iterable the {@link Iterable} to search values in
+   * @return a predicate telling whether the given {@link Iterable} contains a value.
+   */
+  @Override
+  public Predicate<Object> iterableIndex(Iterable<?> iterable) {
+    if (iterable == null) return value -> false;
+    SortedElements sortedElements = new SortedElements(iterable);
+    // values are compared as expected elements, i.e. given second to the comparator like in iterableContains
+    return value -> sortedElements.containsElementEqualTo(value, false);
+  }
+
+  /**
+   * Returns true unless the given comparator is a {@link NonOrderingComparator}, like the comparators AssertJ builds to
+   * compare elements with {@code usingEquals}, recursively or field by field, which only tell whether elements are equal
+   * so that sorting elements with them would cost comparisons for nothing.
+   * <p>
+   * User comparators are expected to define an order, the elements are still compared one by one if they turn out not to
+   * (see {@link SortedElements}).
+   *
+   * @param comparator the comparator to check
+   * @return true if the given comparator can be used to sort elements.
+   */
+  private static boolean isOrder(Comparator<?> comparator) {
+    return !(comparator instanceof NonOrderingComparator);
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   protected Set<Object> newSetUsingComparisonStrategy() {
@@ -223,4 +345,151 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   public boolean isStandard() {
     return false;
   }
+
+  /**
+   * Elements sorted with the {@link #comparator} when it defines an order, comparisons made with the elements
+   * are done in the same direction as {@link #areEqual(Object, Object)}: actual elements first, {@code isActualElement}
+   * tells whether the given element is an actual one or an expected one.
+   * <p>
+   * Null elements are not given to the comparator, they are only equal to each other. The elements are kept in their
+   * original order and compared one by one if the comparator does not define an order, if it does not look like one on
+   * the first non-equal elements (like user comparators returning zero for equal elements and the same value otherwise),
+   * or if it fails to sort them (ex: elements of different types compared in their natural order).
+   */
+  private class SortedElements {
+
+    private final List<Object> elements;
+    // null when the elements are not sorted
+    private final Object[] sortedElements;
+    private final int nullElementsCount;
+
+    private SortedElements(Iterable<?> elements) {
+      this.elements = newArrayList(elements);
+      Object[] nonNullElements = this.elements.stream().filter(Objects::nonNull).toArray();
+      this.nullElementsCount = this.elements.size() - nonNullElements.length;
+      this.sortedElements = comparatorIsAnOrder ? sort(nonNullElements) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] sort(Object[] elements) {
+      try {
+        if (!looksLikeAnOrder(elements)) return null;
+        Arrays.sort(elements, comparator);
+      } catch (IllegalArgumentException | ClassCastException e) {
+        return null;
+      }
+      return elements;
+    }
+
+    // cheap check on the first pair of non-equal elements that the comparator can tell which one comes first
+    @SuppressWarnings("unchecked")
+    private boolean looksLikeAnOrder(Object[] elements) {
+      for (int i = 1; i < elements.length; i++) {
+        int comparison = Integer.signum(comparator.compare(elements[i - 1], elements[i]));
+        if (comparison != 0) return comparison == -Integer.signum(comparator.compare(elements[i], elements[i - 1]));
+      }
+      return true;
+    }
+
+    // element is an actual element when the elements are the expected ones and vice versa
+    private boolean containsElementEqualTo(Object element, boolean isActualElement) {
+      if (sortedElements != null) {
+        if (element == null) return nullElementsCount > 0;
+        // the comparator is an order, elements equal to the given one can't be anywhere else
+        return lowerBound(element, isActualElement) >= 0;
+      }
+      for (Object otherElement : elements) {
+        if (areEqualOrBothNull(element, otherElement, isActualElement)) return true;
+      }
+      return false;
+    }
+
+    // pairs each other element with an unpaired element equal to it, returns the other elements left unpaired
+    private List<Object> unpairedElementsOf(Iterable<?> otherElements, boolean otherElementsAreActual) {
+      if (sortedElements == null) return unpairedElementsComparingOneByOne(otherElements, otherElementsAreActual);
+      // index of the first unpaired sorted element from each index, kept up to date lazily as sorted elements get paired
+      int[] nextUnpairedElementIndexes = new int[sortedElements.length + 1];
+      Arrays.setAll(nextUnpairedElementIndexes, index -> index);
+      int pairedNullElementsCount = 0;
+      List<Object> unpairedOtherElements = new ArrayList<>();
+      for (Object otherElement : otherElements) {
+        if (otherElement == null) {
+          if (pairedNullElementsCount < nullElementsCount) pairedNullElementsCount++;
+          else unpairedOtherElements.add(otherElement);
+          continue;
+        }
+        int firstEqualElementIndex = lowerBound(otherElement, otherElementsAreActual);
+        int elementToPairIndex = firstEqualElementIndex < 0 ? -1
+            : nextUnpairedElementIndex(nextUnpairedElementIndexes, firstEqualElementIndex);
+        // not paired if there are no equal sorted elements or if they are all paired already
+        if (elementToPairIndex < 0 || elementToPairIndex == sortedElements.length
+            || compare(otherElement, sortedElements[elementToPairIndex], otherElementsAreActual) != 0) {
+          unpairedOtherElements.add(otherElement);
+        } else {
+          nextUnpairedElementIndexes[elementToPairIndex] = elementToPairIndex + 1;
+        }
+      }
+      return unpairedOtherElements;
+    }
+
+    private int nextUnpairedElementIndex(int[] nextUnpairedElementIndexes, int index) {
+      int nextUnpairedElementIndex = index;
+      while (nextUnpairedElementIndexes[nextUnpairedElementIndex] != nextUnpairedElementIndex) {
+        nextUnpairedElementIndex = nextUnpairedElementIndexes[nextUnpairedElementIndex];
+      }
+      // shortcut the paired elements met on the way for the next lookups
+      while (index != nextUnpairedElementIndex) {
+        int next = nextUnpairedElementIndexes[index];
+        nextUnpairedElementIndexes[index] = nextUnpairedElementIndex;
+        index = next;
+      }
+      return nextUnpairedElementIndex;
+    }
+
+    // pairs each other element with the first unpaired equal element
+    private List<Object> unpairedElementsComparingOneByOne(Iterable<?> otherElements, boolean otherElementsAreActual) {
+      List<Object> unpairedElements = new ArrayList<>(elements);
+      List<Object> unpairedOtherElements = new ArrayList<>();
+      for (Object otherElement : otherElements) {
+        if (!removeFirstEqualElement(unpairedElements, otherElement, otherElementsAreActual))
+          unpairedOtherElements.add(otherElement);
+      }
+      return unpairedOtherElements;
+    }
+
+    private boolean removeFirstEqualElement(List<Object> elements, Object element, boolean isActualElement) {
+      Iterator<Object> iterator = elements.iterator();
+      while (iterator.hasNext()) {
+        if (areEqualOrBothNull(element, iterator.next(), isActualElement)) {
+          iterator.remove();
+          return true;
+        }
+      }
+      return false;
+    }
+
+    // index of the first sorted element equal to the given one, -1 if there are none
+    private int lowerBound(Object element, boolean isActualElement) {
+      int low = 0;
+      int high = sortedElements.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (compare(element, sortedElements[middle], isActualElement) > 0) low = middle + 1;
+        else high = middle;
+      }
+      return low < sortedElements.length && compare(element, sortedElements[low], isActualElement) == 0 ? low : -1;
+    }
+
+    // compares element to the other one, calling the comparator with the actual element first
+    @SuppressWarnings("unchecked")
+    private int compare(Object element, Object otherElement, boolean isActualElement) {
+      return isActualElement ? comparator.compare(element, otherElement) : -Integer.signum(comparator.compare(otherElement, element));
+    }
+
+    private boolean areEqualOrBothNull(Object element, Object otherElement, boolean isActualElement) {
+      if (element == otherElement) return true;
+      if (element == null || otherElement == null) return false;
+      return compare(element, otherElement, isActualElement) == 0;
+    }
+  }
 }
@@ -12,6 +12,9 @@
  */
 package org.assertj.core.api.comparisonstrategy;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 /**
  * Describes the contract to implement a <b>consistent</b> comparison strategy that covers :<br>
  * - comparing two objects for equality and order<br>
@@ -112,6 +115,89 @@ public interface ComparisonStrategy {
    */
   Iterable<?> duplicatesFrom(Iterable<?> iterable);
 
+  /**
+   * Returns a predicate telling whether the given {@link Iterable} contains a value according to the implemented comparison
+   * strategy, as {@link #iterableContains(Iterable, Object)} does, the {@link Iterable} is read once when calling this
+   * method.
+   * <p>
+   * It is meant to look for many values in the same {@link Iterable}, implementations can index its elements once to find
+   * each value faster than by comparing it to every element. The default implementation does not index the elements.
+   *
+   * @param iterable the {@link Iterable} to search values in
+   * @return a predicate telling whether the given {@link Iterable} contains a value.
+   */
+  default Predicate<Object> iterableIndex(Iterable<?> iterable) {
+    return ElementByElementComparisons.index(this, iterable);
+  }
+
+  /**
+   * Returns the elements of {@code actual} that are not equal to any of the {@code expected} elements according to the
+   * implemented comparison strategy, in {@code actual} order.
+   * <p>
+   * Elements are compared with {@code areEqual(actualElement, expectedElement)}, an {@code actual} element equal to an
+   * {@code expected} element is not returned even if that {@code expected} element is equal to other {@code actual} ones.
+   * <p>
+   * The default implementation compares each actual element to the expected ones.
+   *
+   * @param actual the elements to look for in {@code expected}
+   * @param expected the elements to look into
+   * @return the elements of {@code actual} that are not equal to any of the {@code expected} elements.
+   */
+  default List<Object> iterableUnexpectedElements(Iterable<?> actual, Iterable<?> expected) {
+    return ElementByElementComparisons.unexpectedElements(this, actual, expected);
+  }
+
+  /**
+   * Returns the elements of {@code expected} that are not equal to any of the {@code actual} elements according to the
+   * implemented comparison strategy, in {@code expected} order.
+   * <p>
+   * Elements are compared with {@code areEqual(actualElement, expectedElement)}, an {@code expected} element equal to an
+   * {@code actual} element is not returned even if that {@code actual} element is equal to other {@code expected} ones.
+   * <p>
+   * The default implementation compares each expected element to the actual ones.
+   *
+   * @param actual the elements to look into
+   * @param expected the elements to look for in {@code actual}
+   * @return the elements of {@code expected} that are not equal to any of the {@code actual} elements.
+   */
+  default List<Object> iterableMissingElements(Iterable<?> actual, Iterable<?> expected) {
+    return ElementByElementComparisons.missingElements(this, actual, expected);
+  }
+
+  /**
+   * Returns the elements of {@code actual} left once each of them has been paired with a distinct equal {@code expected}
+   * element according to the implemented comparison strategy, in {@code actual} order.
+   * <p>
+   * Elements are compared with {@code areEqual(actualElement, expectedElement)}, duplicates are taken into account: an
+   * {@code actual} element occurring twice but only once in {@code expected} is returned once.
+   * <p>
+   * The default implementation pairs each actual element with the first unpaired equal expected element.
+   *
+   * @param actual the elements to pair with the {@code expected} ones
+   * @param expected the elements to pair with the {@code actual} ones
+   * @return the elements of {@code actual} that could not be paired with an {@code expected} element.
+   */
+  default List<Object> iterableUnmatchedActualElements(Iterable<?> actual, Iterable<?> expected) {
+    return ElementByElementComparisons.unmatchedActualElements(this, actual, expected);
+  }
+
+  /**
+   * Returns the elements of {@code expected} left once each of them has been paired with a distinct equal {@code actual}
+   * element according to the implemented comparison strategy, in {@code expected} order.
+   * <p>
+   * Elements are compared with {@code areEqual(actualElement, expectedElement)}, duplicates are taken into account: an
+   * {@code expected} element occurring twice but only once in {@code actual} is returned once.
+   * <p>
+   * The default implementation pairs each expected element with the first unpaired equal actual element.
+   *
+   * @param actual the elements to pair with the {@code expected} ones
+   * @param expected the elements to pair with the {@code actual} ones
+   * @return the elements of {@code expected} that could not be paired with an {@code actual} element.
+   */
+  default List<Object> iterableUnmatchedExpectedElements(Iterable<?> actual, Iterable<?> expected) {
+    return ElementByElementComparisons.unmatchedExpectedElements(this, actual, expected);
+  }
+
   /**
    * Returns true if given array contains given value according to the implemented comparison strategy, false otherwise.
    * 
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.comparisonstrategy;
+
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The {@link ComparisonStrategy} bulk operations done by comparing elements one by one with
+ * {@link ComparisonStrategy#areEqual(Object, Object)}, actual elements first.
+ * <p>
+ * They are the default implementations of these operations and the ones that implementations indexing elements fall back
+ * on when their elements can't be indexed.
+ */
+final class ElementByElementComparisons {
+
+  private ElementByElementComparisons() {}
+
+  static Predicate<Object> index(ComparisonStrategy comparisonStrategy, Iterable<?> iterable) {
+    List<Object> elements = newArrayList(iterable);
+    return value -> comparisonStrategy.iterableContains(elements, value);
+  }
+
+  static List<Object> unexpectedElements(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Iterable<?> expected) {
+    List<Object> unexpectedElements = new ArrayList<>();
+    for (Object actualElement : actual) {
+      if (!containsEqualExpectedElement(comparisonStrategy, actualElement, expected)) unexpectedElements.add(actualElement);
+    }
+    return unexpectedElements;
+  }
+
+  static List<Object> missingElements(ComparisonStrategy comparisonStrategy, Iterable<?> actual, Iterable<?> expected) {
+    List<Object> missingElements = new ArrayList<>();
+    for (Object expectedElement : expected) {
+      if (!containsEqualActualElement(comparisonStrategy, actual, expectedElement)) missingElements.add(expectedElement);
+    }
+    return missingElements;
+  }
+
+  static List<Object> unmatchedActualElements(ComparisonStrategy comparisonStrategy, Iterable<?> actual,
+                                              Iterable<?> expected) {
+    List<Object> unpairedExpectedElements = newArrayList(expected);
+    List<Object> unmatchedActualElements = new ArrayList<>();
+    for (Object actualElement : actual) {
+      if (!removeFirstEqualElement(comparisonStrategy, unpairedExpectedElements, actualElement, true))
+        unmatchedActualElements.add(actualElement);
+    }
+    return unmatchedActualElements;
+  }
+
+  static List<Object> unmatchedExpectedElements(ComparisonStrategy comparisonStrategy, Iterable<?> actual,
+                                                Iterable<?> expected) {
+    List<Object> unpairedActualElements = newArrayList(actual);
+    List<Object> unmatchedExpectedElements = new ArrayList<>();
+    for (Object expectedElement : expected) {
+      if (!removeFirstEqualElement(comparisonStrategy, unpairedActualElements, expectedElement, false))
+        unmatchedExpectedElements.add(expectedElement);
+    }
+    return unmatchedExpectedElements;
+  }
+
+  private static boolean containsEqualExpectedElement(ComparisonStrategy comparisonStrategy, Object actualElement,
+                                                      Iterable<?> expected) {
+    for (Object expectedElement : expected) {
+      if (comparisonStrategy.areEqual(actualElement, expectedElement)) return true;
+    }
+    return false;
+  }
+
+  private static boolean containsEqualActualElement(ComparisonStrategy comparisonStrategy, Iterable<?> actual,
+                                                    Object expectedElement) {
+    for (Object actualElement : actual) {
+      if (comparisonStrategy.areEqual(actualElement, expectedElement)) return true;
+    }
+    return false;
+  }
+
+  // element is an actual element when isActualElement is true, an expected one otherwise
+  private static boolean removeFirstEqualElement(ComparisonStrategy comparisonStrategy, List<Object> elements,
+                                                 Object element, boolean isActualElement) {
+    Iterator<Object> iterator = elements.iterator();
+    while (iterator.hasNext()) {
+      Object otherElement = iterator.next();
+      if (isActualElement
+          ? comparisonStrategy.areEqual(element, otherElement)
+          : comparisonStrategy.areEqual(otherElement, element)) {
+        iterator.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+}
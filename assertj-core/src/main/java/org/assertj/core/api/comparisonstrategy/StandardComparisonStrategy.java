@@ -12,10 +12,21 @@
  */
 package org.assertj.core.api.comparisonstrategy;
 
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import org.assertj.core.util.Objects;
 import org.assertj.core.util.Streams;
@@ -31,6 +42,9 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   private static final StandardComparisonStrategy INSTANCE = new StandardComparisonStrategy();
 
+  // whether elements can be found by hash code in the bulk operations
+  private final boolean hashBased;
+
   /**
    * Returns the singleton instance of this class.
    *
@@ -45,7 +59,7 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
    * {@link java.util.Objects#deepEquals(Object, Object)}.
    */
   protected StandardComparisonStrategy() {
-    // empty
+    this.hashBased = comparesElementsWithDeepEquals(getClass());
   }
 
   @Override
@@ -176,6 +190,128 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return super.duplicatesFrom(iterable);
   }
 
+  /**
+   * Returns a predicate telling whether the given {@link Iterable} contains a value based on
+   * {@link java.util.Objects#deepEquals(Object, Object)}, as {@link #iterableContains(Iterable, Object)} does.
+   * <p>
+   * The elements are indexed by hash code when their classes override {@code hashCode} along with {@code equals}, a value
+   * whose class does not is compared to each element.
+   *
+   * @param iterable the {@link Iterable} to search values in
+   * @return a predicate telling whether the given {@link Iterable} contains a value.
+   */
+  @Override
+  public Predicate<Object> iterableIndex(Iterable<?> iterable) {
+    if (iterable == null) return value -> false;
+    List<Object> elements = newArrayList(iterable);
+    HashableClasses hashableClasses = new HashableClasses();
+    if (!hashBased || !hashableClasses.allHashable(elements)) return ElementByElementComparisons.index(this, elements);
+    // values are compared as expected elements, i.e. given second to areEqual like in iterableContains
+    Set<ElementKey> elementKeys = elementKeys(elements, true);
+    return value -> hashableClasses.isHashable(value)
+        ? elementKeys.contains(new ElementKey(value, false))
+        : iterableContains(elements, value);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@code expected} elements are indexed by hash code when all the elements classes override {@code hashCode} along
+   * with {@code equals}.
+   */
+  @Override
+  public List<Object> iterableUnexpectedElements(Iterable<?> actual, Iterable<?> expected) {
+    if (!isHashBased(actual, expected)) return ElementByElementComparisons.unexpectedElements(this, actual, expected);
+    return elementsNotIn(actual, true, elementKeys(expected, false));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@code actual} elements are indexed by hash code when all the elements classes override {@code hashCode} along with
+   * {@code equals}.
+   */
+  @Override
+  public List<Object> iterableMissingElements(Iterable<?> actual, Iterable<?> expected) {
+    if (!isHashBased(actual, expected)) return ElementByElementComparisons.missingElements(this, actual, expected);
+    return elementsNotIn(expected, false, elementKeys(actual, true));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@code expected} elements are counted by hash code when all the elements classes override {@code hashCode} along
+   * with {@code equals}, each {@code actual} element then consumes one of its equal elements count.
+   */
+  @Override
+  public List<Object> iterableUnmatchedActualElements(Iterable<?> actual, Iterable<?> expected) {
+    if (!isHashBased(actual, expected)) return ElementByElementComparisons.unmatchedActualElements(this, actual, expected);
+    return unpairedElements(actual, true, expected);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@code actual} elements are counted by hash code when all the elements classes override {@code hashCode} along with
+   * {@code equals}, each {@code expected} element then consumes one of its equal elements count.
+   */
+  @Override
+  public List<Object> iterableUnmatchedExpectedElements(Iterable<?> actual, Iterable<?> expected) {
+    if (!isHashBased(actual, expected)) return ElementByElementComparisons.unmatchedExpectedElements(this, actual, expected);
+    return unpairedElements(expected, false, actual);
+  }
+
+  // subclasses overriding areEqual, like the ones comparing the elements of iterables or arrays with a comparator, don't
+  // compare elements consistently with their hash codes
+  private static boolean comparesElementsWithDeepEquals(Class<?> comparisonStrategyClass) {
+    try {
+      Method areEqual = comparisonStrategyClass.getMethod("areEqual", Object.class, Object.class);
+      return areEqual.getDeclaringClass() == StandardComparisonStrategy.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private boolean isHashBased(Iterable<?> actual, Iterable<?> expected) {
+    if (!hashBased) return false;
+    HashableClasses hashableClasses = new HashableClasses();
+    return hashableClasses.allHashable(actual) && hashableClasses.allHashable(expected);
+  }
+
+  private static Set<ElementKey> elementKeys(Iterable<?> elements, boolean elementsAreActual) {
+    Set<ElementKey> elementKeys = new HashSet<>();
+    for (Object element : elements) {
+      elementKeys.add(new ElementKey(element, elementsAreActual));
+    }
+    return elementKeys;
+  }
+
+  private static List<Object> elementsNotIn(Iterable<?> elements, boolean elementsAreActual, Set<ElementKey> otherElementKeys) {
+    List<Object> elementsNotIn = new ArrayList<>();
+    for (Object element : elements) {
+      if (!otherElementKeys.contains(new ElementKey(element, elementsAreActual))) elementsNotIn.add(element);
+    }
+    return elementsNotIn;
+  }
+
+  // pairs each element with a distinct equal other element, returns the elements left unpaired in their order
+  private static List<Object> unpairedElements(Iterable<?> elements, boolean elementsAreActual, Iterable<?> otherElements) {
+    Map<ElementKey, Integer> otherElementsCount = new HashMap<>();
+    for (Object otherElement : otherElements) {
+      otherElementsCount.merge(new ElementKey(otherElement, !elementsAreActual), 1, Integer::sum);
+    }
+    List<Object> unpairedElements = new ArrayList<>();
+    for (Object element : elements) {
+      ElementKey elementKey = new ElementKey(element, elementsAreActual);
+      Integer count = otherElementsCount.get(elementKey);
+      // consume an equal other element or report the element when there are none left
+      if (count == null) unpairedElements.add(element);
+      else if (count == 1) otherElementsCount.remove(elementKey);
+      else otherElementsCount.put(elementKey, count - 1);
+    }
+    return unpairedElements;
+  }
+
   @Override
   public boolean stringStartsWith(String string, String prefix) {
     return string.startsWith(prefix);
@@ -210,4 +346,84 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return true;
   }
 
+  /**
+   * Tells whether elements can be found by hash code, i.e. if equal elements have the same hash code.
+   */
+  private static class HashableClasses {
+
+    private final Map<Class<?>, Boolean> hashableClasses = new HashMap<>();
+    // the object arrays whose elements are being checked, to stop on arrays containing themselves
+    private final Set<Object[]> checkedArrays = newSetFromMap(new IdentityHashMap<>());
+
+    private boolean allHashable(Iterable<?> elements) {
+      for (Object element : elements) {
+        if (!isHashable(element)) return false;
+      }
+      return true;
+    }
+
+    private boolean isHashable(Object element) {
+      // object arrays are compared and hashed by content (see ElementKey), their elements must be hashable too
+      if (element instanceof Object[] array) return isHashable(array);
+      return element == null || hashableClasses.computeIfAbsent(element.getClass(), HashableClasses::isHashable);
+    }
+
+    private boolean isHashable(Object[] array) {
+      // an array containing itself, directly or not, can't be hashed by content
+      if (!checkedArrays.add(array)) return false;
+      try {
+        return allHashable(java.util.Arrays.asList(array));
+      } finally {
+        checkedArrays.remove(array);
+      }
+    }
+
+    private static boolean isHashable(Class<?> elementClass) {
+      // primitive arrays are compared and hashed by content, see ElementKey
+      if (elementClass.isArray()) return true;
+      try {
+        boolean overridesEquals = elementClass.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        boolean overridesHashCode = elementClass.getMethod("hashCode").getDeclaringClass() != Object.class;
+        // equal elements must have the same hash code
+        return !overridesEquals || overridesHashCode;
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * An element hashed and compared as {@link StandardComparisonStrategy} does, i.e. arrays by content.
+   * <p>
+   * An actual element and an expected one are compared with {@code areEqual(actualElement, expectedElement)} whichever key
+   * is looked up, as {@code equals} might not be symmetric (ex: a subclass overriding {@code equals}).
+   */
+  private static final class ElementKey {
+
+    private final Object element;
+    private final boolean isActualElement;
+    private final int hashCode;
+
+    private ElementKey(Object element, boolean isActualElement) {
+      this.element = element;
+      this.isActualElement = isActualElement;
+      this.hashCode = element != null && element.getClass().isArray()
+          ? java.util.Arrays.deepHashCode(new Object[] { element })
+          : java.util.Objects.hashCode(element);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof ElementKey elementKey)) return false;
+      return isActualElement || !elementKey.isActualElement
+          ? INSTANCE.areEqual(element, elementKey.element)
+          : INSTANCE.areEqual(elementKey.element, element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
 }
@@ -13,6 +13,8 @@
 package org.assertj.core.api.recursive;
 
 import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Lists.list;
 
@@ -44,6 +46,13 @@ public abstract class AbstractRecursiveOperationConfiguration {
 
   protected AbstractRecursiveOperationConfiguration() {}
 
+  protected AbstractRecursiveOperationConfiguration(AbstractRecursiveOperationConfiguration configuration) {
+    ignoredFields.addAll(configuration.ignoredFields);
+    ignoredFieldsRegexes.addAll(configuration.ignoredFieldsRegexes);
+    ignoredTypes.addAll(configuration.ignoredTypes);
+    ignoredTypesRegexes.addAll(configuration.ignoredTypesRegexes);
+  }
+
   /**
    * Adds the given fields to the set of fields from the object under test to ignore in the recursive comparison.
    * <p>
@@ -64,7 +73,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
    * @return the set of fields from the object under test to ignore in the recursive comparison.
    */
   public Set<String> getIgnoredFields() {
-    return ignoredFields;
+    return readOnlyIfFrozen(ignoredFields);
   }
 
   /**
@@ -80,7 +89,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   }
 
   public List<Pattern> getIgnoredFieldsRegexes() {
-    return ignoredFieldsRegexes;
+    return readOnlyIfFrozen(ignoredFieldsRegexes);
   }
 
   /**
@@ -141,7 +150,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
    * @return the set of fields from the object under test types to ignore in the recursive comparison.
    */
   public Set<Class<?>> getIgnoredTypes() {
-    return ignoredTypes;
+    return readOnlyIfFrozen(ignoredTypes);
   }
 
   /**
@@ -150,7 +159,25 @@ public abstract class AbstractRecursiveOperationConfiguration {
    * @return the regexes that will be used to ignore fields with types matching these regexes in the recursive comparison.
    */
   public List<Pattern> getIgnoredTypesRegexes() {
-    return ignoredTypesRegexes;
+    return readOnlyIfFrozen(ignoredTypesRegexes);
+  }
+
+  /**
+   * Returns whether this configuration can't be modified anymore, in which case its getters return read-only views of
+   * its collections.
+   *
+   * @return whether this configuration can't be modified anymore.
+   */
+  protected boolean isFrozen() {
+    return false;
+  }
+
+  protected <T> Set<T> readOnlyIfFrozen(Set<T> elements) {
+    return isFrozen() ? unmodifiableSet(elements) : elements;
+  }
+
+  protected <T> List<T> readOnlyIfFrozen(List<T> elements) {
+    return isFrozen() ? unmodifiableList(elements) : elements;
   }
 
   protected void describeIgnoredFields(StringBuilder description) {
@@ -19,15 +19,20 @@ import static org.assertj.core.util.introspection.PropertyOrFieldSupport.EXTRACT
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DefaultRecursiveAssertionIntrospectionStrategy implements RecursiveAssertionIntrospectionStrategy {
 
+  // the fields of a class and their declared types only need to be looked up once
+  private static final Map<Class<?>, List<DeclaredField>> declaredFieldsByClass = new ConcurrentHashMap<>();
+
   @Override
   public List<RecursiveAssertionNode> getChildNodesOf(Object node) {
-    return getDeclaredFieldsIncludingInherited(node.getClass()).stream()
-                                                               .map(field -> toNode(field, node))
-                                                               .collect(toList());
+    return declaredFieldsOf(node.getClass()).stream()
+                                            .map(field -> toNode(field, node))
+                                            .collect(toList());
   }
 
   @Override
@@ -35,15 +40,26 @@ public class DefaultRecursiveAssertionIntrospectionStrategy implements Recursive
     return "DefaultRecursiveAssertionIntrospectionStrategy which introspects all fields (including inherited ones)";
   }
 
-  private static RecursiveAssertionNode toNode(Field field, Object node) {
-    String fieldName = field.getName();
-    Object fieldValue = EXTRACTION.getSimpleValue(fieldName, node);
-    Class<?> fieldType = getFieldType(fieldValue, fieldName, node);
-    return new RecursiveAssertionNode(fieldValue, fieldName, fieldType);
+  private static List<DeclaredField> declaredFieldsOf(Class<?> objectClass) {
+    // not using computeIfAbsent as it would block other threads while the class is introspected
+    List<DeclaredField> declaredFields = declaredFieldsByClass.get(objectClass);
+    if (declaredFields == null) {
+      declaredFields = getDeclaredFieldsIncludingInherited(objectClass).stream()
+                                                                       .map(Field::getName)
+                                                                       .map(fieldName -> new DeclaredField(fieldName,
+                                                                                                           getFieldType(fieldName,
+                                                                                                                        objectClass)))
+                                                                       .toList();
+      declaredFieldsByClass.putIfAbsent(objectClass, declaredFields);
+    }
+    return declaredFields;
   }
 
-  private static Class<?> getFieldType(Object fieldValue, String fieldName, Object targetObject) {
-    return fieldValue != null ? fieldValue.getClass() : getFieldType(fieldName, targetObject.getClass());
+  private static RecursiveAssertionNode toNode(DeclaredField field, Object node) {
+    Object fieldValue = EXTRACTION.getSimpleValue(field.name, node);
+    // try to get the runtime type if possible or the declared one if not
+    Class<?> fieldType = fieldValue != null ? fieldValue.getClass() : field.type;
+    return new RecursiveAssertionNode(fieldValue, field.name, fieldType);
   }
 
   private static Class<?> getFieldType(String fieldName, Class<?> objectClass) {
@@ -62,4 +78,14 @@ public class DefaultRecursiveAssertionIntrospectionStrategy implements Recursive
     }
   }
 
+  private static final class DeclaredField {
+    private final String name;
+    private final Class<?> type;
+
+    private DeclaredField(String name, Class<?> type) {
+      this.name = name;
+      this.type = type;
+    }
+  }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.assertion;
+
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
+import static org.assertj.core.util.Sets.newHashSet;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+
+/**
+ * The ignored fields of a {@link RecursiveAssertionConfiguration} compiled to be evaluated once per field path.
+ * <p>
+ * Whether a field is ignored only depends on its path to use in rules (i.e. without element indexes), the decisions are
+ * cached by path so that the ignored fields and regexes are evaluated once for all the elements of a collection or all the
+ * instances of a type in the asserted graph. A field is ignored when its parent is, each path reuses the decision made for
+ * its parent path and only evaluates the ignored fields and regexes matching it exactly.
+ * <p>
+ * An instance reflects the configuration ignored fields at the time it was created.
+ */
+final class IgnoredFieldLocations {
+
+  private final Set<String> ignoredFields;
+  private final List<Pattern> ignoredFieldsRegexes;
+  // concurrent map as the elements of a container can be asserted in parallel
+  private final Map<String, Boolean> ignoredFieldPaths = new ConcurrentHashMap<>();
+
+  IgnoredFieldLocations(RecursiveAssertionConfiguration configuration) {
+    ignoredFields = newHashSet(configuration.getIgnoredFields());
+    ignoredFieldsRegexes = List.copyOf(configuration.getIgnoredFieldsRegexes());
+  }
+
+  /**
+   * Returns whether the given field location or any of its parents is ignored, either by name or by regex.
+   *
+   * @param fieldLocation the field location to check
+   * @return whether the given field location or any of its parents is ignored.
+   */
+  boolean isIgnored(FieldLocation fieldLocation) {
+    if (ignoredFields.isEmpty() && ignoredFieldsRegexes.isEmpty()) return false;
+    return isIgnored(fieldLocation.getPathToUseInRules());
+  }
+
+  private boolean isIgnored(String fieldPath) {
+    // the root object can't be ignored
+    if (fieldPath.isEmpty()) return false;
+    // not using computeIfAbsent as evaluating the parent path updates the decisions too
+    Boolean ignored = ignoredFieldPaths.get(fieldPath);
+    if (ignored == null) {
+      ignored = isIgnored(parentPathOf(fieldPath)) || ignoredFields.contains(fieldPath) || anyMatch(ignoredFieldsRegexes, fieldPath);
+      ignoredFieldPaths.put(fieldPath, ignored);
+    }
+    return ignored;
+  }
+
+  private static boolean anyMatch(List<Pattern> regexes, String fieldPath) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(fieldPath).matches()) return true;
+    }
+    return false;
+  }
+
+  // the root path for top level fields
+  private static String parentPathOf(String fieldPath) {
+    int lastSeparatorIndex = fieldPath.lastIndexOf(FIELD_SEPARATOR);
+    return lastSeparatorIndex < 0 ? "" : fieldPath.substring(0, lastSeparatorIndex);
+  }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_VALUES_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_VALUE_ONLY;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -39,6 +40,10 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
   private OptionalAssertionPolicy optionalAssertionPolicy;
   private boolean ignoreAllNullFields;
   private RecursiveAssertionIntrospectionStrategy introspectionStrategy;
+  // number of threads asserting over independent sub graphs, 1 means the assertion is not done in parallel
+  private int parallelism;
+  // the assertion stops once that many fields failing the predicate have been found
+  private int maxFailures;
 
   private RecursiveAssertionConfiguration(Builder builder) {
     super(builder);
@@ -49,6 +54,8 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     this.optionalAssertionPolicy = builder.optionalAssertionPolicy;
     this.ignoreAllNullFields = builder.ignoreAllNullFields;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.parallelism = builder.parallelism;
+    this.maxFailures = builder.maxFailures;
   }
 
   /**
@@ -165,6 +172,39 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     this.introspectionStrategy = introspectionStrategy;
   }
 
+  /**
+   * Sets the number of threads used to assert over independent sub graphs in parallel, that is the elements of collections
+   * and arrays and the keys and values of maps, a parallelism of 1 (the default) evaluates everything in the current thread.
+   * <p>
+   * The predicate must be thread safe when the parallelism is greater than 1.
+   * <p>
+   * Example: see {@link RecursiveAssertionAssert#withParallelism(int)}
+   *
+   * @param parallelism the number of threads used to assert over independent sub graphs.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Makes the recursive assertion stop once the given number of fields failing the predicate have been found, the rest of
+   * the object graph is not evaluated. By default, the whole object graph is evaluated.
+   * <p>
+   * The reported fields are the first ones found when walking the object graph, a max failures of 1 stops the assertion at
+   * the first field failing the predicate.
+   * <p>
+   * Example: see {@link RecursiveAssertionAssert#withMaxFailures(int)}
+   *
+   * @param maxFailures the number of fields failing the predicate after which the assertion stops.
+   * @throws IllegalArgumentException if maxFailures is less than 1.
+   */
+  public void setMaxFailures(int maxFailures) {
+    checkArgument(maxFailures > 0, "maxFailures must be greater than 0 but was %s", maxFailures);
+    this.maxFailures = maxFailures;
+  }
+
   @Override
   public String toString() {
     CONFIGURATION_PROVIDER.representation();
@@ -179,6 +219,8 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     describeMapAssertionPolicy(description);
     describeOptionalAssertionPolicy(description);
     describeIntrospectionStrategy(description);
+    describeParallelism(description);
+    describeMaxFailures(description);
     return description.toString();
   }
 
@@ -206,6 +248,14 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     return introspectionStrategy;
   }
 
+  int getParallelism() {
+    return parallelism;
+  }
+
+  int getMaxFailures() {
+    return maxFailures;
+  }
+
   boolean shouldIgnoreMap() {
     return mapAssertionPolicy == MAP_VALUES_ONLY;
   }
@@ -259,6 +309,16 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     description.append("- the introspection strategy used was: %s%n".formatted(introspectionStrategy.getDescription()));
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append("- collection elements and map entries were asserted in parallel using %s threads%n".formatted(parallelism));
+  }
+
+  private void describeMaxFailures(StringBuilder description) {
+    if (maxFailures != Integer.MAX_VALUE)
+      description.append("- the assertion was configured to stop after %s failing fields%n".formatted(maxFailures));
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -271,14 +331,17 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
            && shouldSkipJavaLibraryTypeObjects() == that.shouldSkipJavaLibraryTypeObjects()
            && getCollectionAssertionPolicy() == that.getCollectionAssertionPolicy()
            && getOptionalAssertionPolicy() == that.getOptionalAssertionPolicy()
-           && getMapAssertionPolicy() == that.getMapAssertionPolicy();
+           && getMapAssertionPolicy() == that.getMapAssertionPolicy()
+           && getParallelism() == that.getParallelism()
+           && getMaxFailures() == that.getMaxFailures();
   }
 
   @Override
   public int hashCode() {
     return Objects.hash(shouldIgnoreAllNullFields(), getIgnoredFields(), getIgnoredFieldsRegexes(), getIgnoredTypes(),
                         shouldIgnorePrimitiveFields(), shouldSkipJavaLibraryTypeObjects(), getCollectionAssertionPolicy(),
-                        getOptionalAssertionPolicy(), getMapAssertionPolicy());
+                        getOptionalAssertionPolicy(), getMapAssertionPolicy(), getParallelism(),
+                        getMaxFailures());
   }
 
   /**
@@ -301,6 +364,8 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     private OptionalAssertionPolicy optionalAssertionPolicy = OPTIONAL_VALUE_ONLY;
     private boolean ignoreAllNullFields;
     private RecursiveAssertionIntrospectionStrategy introspectionStrategy = new DefaultRecursiveAssertionIntrospectionStrategy();
+    private int parallelism = 1;
+    private int maxFailures = Integer.MAX_VALUE;
 
     private Builder() {
       super(Builder.class);
@@ -567,6 +632,41 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
       return this;
     }
 
+    /**
+     * Sets the number of threads used to assert over independent sub graphs in parallel, that is the elements of
+     * collections and arrays and the keys and values of maps, a parallelism of 1 (the default) evaluates everything in the
+     * current thread.
+     * <p>
+     * The predicate must be thread safe when the parallelism is greater than 1.
+     * <p>
+     * See {@link RecursiveAssertionAssert#withParallelism(int)} for code examples.
+     *
+     * @param parallelism the number of threads used to assert over independent sub graphs.
+     * @return This builder.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Makes the recursive assertion stop once the given number of fields failing the predicate have been found, the rest
+     * of the object graph is not evaluated. By default, the whole object graph is evaluated.
+     * <p>
+     * See {@link RecursiveAssertionAssert#withMaxFailures(int)} for code examples.
+     *
+     * @param maxFailures the number of fields failing the predicate after which the assertion stops.
+     * @return This builder.
+     * @throws IllegalArgumentException if maxFailures is less than 1.
+     */
+    public Builder withMaxFailures(int maxFailures) {
+      checkArgument(maxFailures > 0, "maxFailures must be greater than 0 but was %s", maxFailures);
+      this.maxFailures = maxFailures;
+      return this;
+    }
+
     public RecursiveAssertionConfiguration build() {
       return new RecursiveAssertionConfiguration(this);
     }
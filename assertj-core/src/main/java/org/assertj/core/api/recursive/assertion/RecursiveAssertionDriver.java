@@ -12,6 +12,7 @@
  */
 package org.assertj.core.api.recursive.assertion;
 
+import static java.util.Arrays.fill;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.CollectionAssertionPolicy.COLLECTION_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_OBJECT_AND_ENTRIES;
@@ -19,11 +20,11 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newHashSet;
-import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
-import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +32,8 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.assertj.core.util.Arrays;
@@ -41,42 +44,77 @@ public class RecursiveAssertionDriver {
   private static final String INDEX_FORMAT = "[%d]";
   private static final String KEY_FORMAT = "KEY[%s]";
   private static final String VALUE_FORMAT = "VAL[%s]";
+  // below this number of elements, asserting over them in parallel costs more than it saves
+  private static final int MIN_ELEMENTS_TO_ASSERT_IN_PARALLEL = 16;
 
-  private final Set<String> visitedNodeIds = newHashSet();
+  // nodes are visited by identity, equal but distinct nodes are all visited
+  private final Set<Object> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+  // nodes visited before the elements asserted by this driver were forked, only read
+  private final Set<Object> visitedNodesBeforeFork;
   private final List<FieldLocation> fieldsFailingTheAssertion = list();
   private final RecursiveAssertionConfiguration configuration;
+  // the configuration ignored fields, compiled when the assertion starts
+  private IgnoredFieldLocations ignoredFieldLocations;
+  // pool asserting over collection elements and map entries in parallel, null if this assertion is sequential
+  private ForkJoinPool forkJoinPool;
+  // failures budget shared by the drivers of the elements asserted in parallel, null for the other drivers
+  private final ElementsFailuresBudget elementsFailuresBudget;
 
   public RecursiveAssertionDriver(RecursiveAssertionConfiguration configuration) {
+    this(configuration, Collections.emptySet(), null);
+  }
+
+  private RecursiveAssertionDriver(RecursiveAssertionConfiguration configuration, Set<Object> visitedNodesBeforeFork,
+                                   ElementsFailuresBudget elementsFailuresBudget) {
     this.configuration = configuration;
+    this.visitedNodesBeforeFork = visitedNodesBeforeFork;
+    this.elementsFailuresBudget = elementsFailuresBudget;
   }
 
   public List<FieldLocation> assertOverObjectGraph(Predicate<Object> predicate, Object graphNode) {
-    assertRecursively(predicate, graphNode, graphNode.getClass(), rootFieldLocation());
+    // the configuration can change between two assertions made with this driver
+    ignoredFieldLocations = new IgnoredFieldLocations(configuration);
+    if (configuration.getParallelism() > 1) forkJoinPool = new ForkJoinPool(configuration.getParallelism());
+    try {
+      assertRecursively(predicate, graphNode, graphNode.getClass(), rootFieldLocation());
+    } finally {
+      if (forkJoinPool != null) {
+        forkJoinPool.shutdown();
+        forkJoinPool = null;
+      }
+    }
     return fieldsFailingTheAssertion.stream().sorted().collect(toList());
   }
 
   public void reset() {
-    visitedNodeIds.clear();
+    visitedNodes.clear();
     fieldsFailingTheAssertion.clear();
   }
 
   private void assertRecursively(Predicate<Object> predicate, Object node, Class<?> nodeType, FieldLocation fieldLocation) {
-    if (nodeMustBeIgnored(node, nodeType, fieldLocation)) return;
+    if (hasFoundMaxFailures()) return;
+    RecursiveAssertionNodeType nodeTypeInfo = RecursiveAssertionNodeType.of(nodeType);
+    if (nodeMustBeIgnored(node, nodeType, nodeTypeInfo, fieldLocation)) return;
 
     boolean nodeAlreadyVisited = markNodeAsVisited(node);
     if (nodeAlreadyVisited) return;
 
-    if (!isRootObject(fieldLocation) && shouldEvaluateAssertion(nodeType)) {
+    if (!isRootObject(fieldLocation) && shouldEvaluateAssertion(nodeTypeInfo)) {
       evaluateAssertion(predicate, node, fieldLocation);
     }
-    recurseIntoFieldsOfCurrentNode(predicate, node, nodeType, fieldLocation);
+    recurseIntoFieldsOfCurrentNode(predicate, node, nodeType, nodeTypeInfo, fieldLocation);
   }
 
-  private boolean nodeMustBeIgnored(Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+  private boolean hasFoundMaxFailures() {
+    if (elementsFailuresBudget != null) return elementsFailuresBudget.isExhaustedBy(fieldsFailingTheAssertion.size());
+    return fieldsFailingTheAssertion.size() >= configuration.getMaxFailures();
+  }
+
+  private boolean nodeMustBeIgnored(Object node, Class<?> nodeType, RecursiveAssertionNodeType nodeTypeInfo,
+                                    FieldLocation fieldLocation) {
     return isNullWhichAreIgnored(node)
-           || isPrimitiveWhichAreIgnored(nodeType)
-           || configuration.matchesAnIgnoredField(fieldLocation)
-           || configuration.matchesAnIgnoredFieldRegex(fieldLocation)
+           || isPrimitiveWhichAreIgnored(nodeTypeInfo)
+           || ignoredFieldLocations.isIgnored(fieldLocation)
            || configuration.getIgnoredTypes().contains(nodeType);
   }
 
@@ -88,11 +126,12 @@ public class RecursiveAssertionDriver {
     return node == null && configuration.shouldIgnoreAllNullFields();
   }
 
-  private boolean isPrimitiveWhichAreIgnored(Class<?> nodeType) {
-    return configuration.shouldIgnorePrimitiveFields() && isPrimitiveOrWrapper(nodeType);
+  private boolean isPrimitiveWhichAreIgnored(RecursiveAssertionNodeType nodeTypeInfo) {
+    return configuration.shouldIgnorePrimitiveFields() && nodeTypeInfo.isPrimitiveOrWrapper;
   }
 
   private void evaluateAssertion(Predicate<Object> predicate, Object node, FieldLocation fieldLocation) {
+    if (hasFoundMaxFailures()) return;
     if (assertionFails(predicate, node)) {
       fieldsFailingTheAssertion.add(fieldLocation);
     }
@@ -102,50 +141,42 @@ public class RecursiveAssertionDriver {
     return !predicate.test(node);
   }
 
-  private boolean shouldEvaluateAssertion(Class<?> nodeType) {
-    boolean ignoreContainerAssertion = configuration.shouldIgnoreContainer() && isContainer(nodeType);
-    boolean ignoreMapAssertion = configuration.shouldIgnoreMap() && isMap(nodeType);
-    boolean ignoreOptionalAssertion = configuration.shouldIgnoreOptional() && isOptionalOrPrimitiveOptional(nodeType);
+  private boolean shouldEvaluateAssertion(RecursiveAssertionNodeType nodeTypeInfo) {
+    boolean ignoreContainerAssertion = configuration.shouldIgnoreContainer() && nodeTypeInfo.isContainer();
+    boolean ignoreMapAssertion = configuration.shouldIgnoreMap() && nodeTypeInfo.isMap;
+    boolean ignoreOptionalAssertion = configuration.shouldIgnoreOptional() && nodeTypeInfo.isOptional;
     return !(ignoreContainerAssertion || ignoreMapAssertion || ignoreOptionalAssertion);
   }
 
-  private boolean isContainer(Class<?> nodeType) {
-    return isCollection(nodeType) || isArray(nodeType);
-  }
-
   private void recurseIntoFieldsOfCurrentNode(Predicate<Object> predicate, Object node, Class<?> nodeType,
-                                              FieldLocation fieldLocation) {
-    if (isTypeRequiringSpecificHandling(nodeType)) {
-      if (shouldRecurseOverSpecialTypes(nodeType)) {
-        doRecursionForSpecialTypes(predicate, node, nodeType, fieldLocation);
+                                              RecursiveAssertionNodeType nodeTypeInfo, FieldLocation fieldLocation) {
+    if (nodeTypeInfo.requiresSpecificHandling()) {
+      if (shouldRecurseOverSpecialTypes(nodeTypeInfo)) {
+        doRecursionForSpecialTypes(predicate, node, nodeType, nodeTypeInfo, fieldLocation);
       }
     } else if (shouldRecurseIntoNode(node)) {
       evaluateFieldsOfCurrentNodeRecursively(predicate, node, fieldLocation);
     }
   }
 
-  private boolean isTypeRequiringSpecificHandling(Class<?> nodeType) {
-    return isCollection(nodeType) || isMap(nodeType) || isArray(nodeType) || isOptionalOrPrimitiveOptional(nodeType);
-  }
-
-  private boolean shouldRecurseOverSpecialTypes(Class<?> nodeType) {
-    boolean recurseOverContainer = isContainer(nodeType)
+  private boolean shouldRecurseOverSpecialTypes(RecursiveAssertionNodeType nodeTypeInfo) {
+    boolean recurseOverContainer = nodeTypeInfo.isContainer()
                                    && configuration.getCollectionAssertionPolicy() != COLLECTION_OBJECT_ONLY;
-    boolean recurseOverMap = isMap(nodeType) && configuration.getMapAssertionPolicy() != MAP_OBJECT_ONLY;
-    boolean recurseOverOptional = isOptionalOrPrimitiveOptional(nodeType)
+    boolean recurseOverMap = nodeTypeInfo.isMap && configuration.getMapAssertionPolicy() != MAP_OBJECT_ONLY;
+    boolean recurseOverOptional = nodeTypeInfo.isOptional
                                   && configuration.getOptionalAssertionPolicy() != OPTIONAL_OBJECT_ONLY;
     return recurseOverContainer || recurseOverMap || recurseOverOptional;
   }
 
   private void doRecursionForSpecialTypes(Predicate<Object> predicate, Object node, Class<?> nodeType,
-                                          FieldLocation fieldLocation) {
-    if (isCollection(nodeType)) {
+                                          RecursiveAssertionNodeType nodeTypeInfo, FieldLocation fieldLocation) {
+    if (nodeTypeInfo.isCollection) {
       recurseIntoCollection(predicate, (Collection<?>) node, fieldLocation);
-    } else if (isArray(nodeType)) {
+    } else if (nodeTypeInfo.isArray) {
       recurseIntoArray(predicate, node, nodeType, fieldLocation);
-    } else if (isMap(nodeType)) {
+    } else if (nodeTypeInfo.isMap) {
       recurseIntoMap(predicate, (Map<?, ?>) node, fieldLocation);
-    } else if (isOptionalOrPrimitiveOptional(nodeType)) {
+    } else if (nodeTypeInfo.isOptional) {
       recurseIntoOptional(predicate, node, fieldLocation);
     }
   }
@@ -155,11 +186,13 @@ public class RecursiveAssertionDriver {
     if (collection == null) {
       return; // no way to recursive into the collection, anyway the collection node has already been visited
     }
+    List<RecursiveAssertionNode> elements = new ArrayList<>(collection.size());
     int index = 0;
     for (Object element : collection) {
-      assertRecursively(predicate, element, safeGetClass(element), fieldLocation.field(INDEX_FORMAT.formatted(index)));
+      elements.add(new RecursiveAssertionNode(element, INDEX_FORMAT.formatted(index), safeGetClass(element)));
       index++;
     }
+    assertOverElements(predicate, elements, fieldLocation);
   }
 
   private void recurseIntoArray(Predicate<Object> predicate, Object node, Class<?> nodeType, FieldLocation fieldLocation) {
@@ -168,9 +201,11 @@ public class RecursiveAssertionDriver {
     }
     Class<?> arrayType = nodeType.getComponentType();
     Object[] array = Arrays.asObjectArray(node);
+    List<RecursiveAssertionNode> elements = new ArrayList<>(array.length);
     for (int i = 0; i < array.length; i++) {
-      assertRecursively(predicate, array[i], arrayType, fieldLocation.field(INDEX_FORMAT.formatted(i)));
+      elements.add(new RecursiveAssertionNode(array[i], INDEX_FORMAT.formatted(i), arrayType));
     }
+    assertOverElements(predicate, elements, fieldLocation);
   }
 
   private void recurseIntoOptional(Predicate<Object> predicate, Object node, FieldLocation fieldLocation) {
@@ -208,18 +243,54 @@ public class RecursiveAssertionDriver {
   }
 
   private void recurseIntoMapValues(Predicate<Object> predicate, Map<?, ?> currentNode, FieldLocation fieldLocation) {
-    currentNode.values().forEach(nextNode -> recurseIntoMapElement(predicate, fieldLocation, nextNode, VALUE_FORMAT));
+    recurseIntoMapElements(predicate, currentNode.values(), fieldLocation, VALUE_FORMAT);
   }
 
   private void recurseIntoMapKeys(Predicate<Object> predicate, Map<?, ?> currentNode, FieldLocation fieldLocation) {
-    currentNode.keySet().forEach(nextNode -> recurseIntoMapElement(predicate, fieldLocation, nextNode, KEY_FORMAT));
+    recurseIntoMapElements(predicate, currentNode.keySet(), fieldLocation, KEY_FORMAT);
+  }
+
+  private void recurseIntoMapElements(Predicate<Object> predicate, Collection<?> mapElements, FieldLocation fieldLocation,
+                                      String msgFormat) {
+    List<RecursiveAssertionNode> elements = new ArrayList<>(mapElements.size());
+    for (Object nextNode : mapElements) {
+      String nextNodeFieldName = nextNode != null ? nextNode.toString() : NULL;
+      elements.add(new RecursiveAssertionNode(nextNode, msgFormat.formatted(nextNodeFieldName), safeGetClass(nextNode)));
+    }
+    assertOverElements(predicate, elements, fieldLocation);
+  }
+
+  private void assertOverElements(Predicate<Object> predicate, List<RecursiveAssertionNode> elements,
+                                  FieldLocation fieldLocation) {
+    if (forkJoinPool != null && elements.size() >= MIN_ELEMENTS_TO_ASSERT_IN_PARALLEL) {
+      assertOverElementsInParallel(predicate, elements, fieldLocation);
+    } else {
+      elements.forEach(element -> assertRecursively(predicate, element.value, element.type, fieldLocation.field(element.name)));
+    }
   }
 
-  private void recurseIntoMapElement(Predicate<Object> predicate, FieldLocation fieldLocation, Object nextNode,
-                                     String msgFormat) {
-    Class<?> nextNodeType = safeGetClass(nextNode);
-    String nextNodeFieldName = nextNode != null ? nextNode.toString() : NULL;
-    assertRecursively(predicate, nextNode, nextNodeType, fieldLocation.field(msgFormat.formatted(nextNodeFieldName)));
+  // Each element is asserted right away by its own driver that can read (but not update) the nodes visited so far, this way
+  // the elements assertions are independent and the fields failing the assertion don't depend on the order in which the
+  // elements were asserted.
+  private void assertOverElementsInParallel(Predicate<Object> predicate, List<RecursiveAssertionNode> elements,
+                                            FieldLocation fieldLocation) {
+    int elementsPerTask = Math.max(1, elements.size() / (forkJoinPool.getParallelism() * 4));
+    ElementsFailuresBudget failuresBudget = new ElementsFailuresBudget(elements.size(),
+                                                                       configuration.getMaxFailures()
+                                                                                       - fieldsFailingTheAssertion.size());
+    List<RecursiveAssertionDriver> elementDrivers = forkJoinPool.invoke(new ElementsAssertion(predicate, elements, 0,
+                                                                                             elements.size(), elementsPerTask,
+                                                                                             fieldLocation, this,
+                                                                                             failuresBudget));
+    for (RecursiveAssertionDriver elementDriver : elementDrivers) {
+      // keep the first failures as if the elements were asserted sequentially
+      for (FieldLocation fieldFailingTheAssertion : elementDriver.fieldsFailingTheAssertion) {
+        if (hasFoundMaxFailures()) return;
+        fieldsFailingTheAssertion.add(fieldFailingTheAssertion);
+      }
+      // the rest of the assertion must know the nodes visited by the elements assertions as if they were sequential
+      visitedNodes.addAll(elementDriver.visitedNodes);
+    }
   }
 
   private static Class<?> safeGetClass(Object object) {
@@ -231,11 +302,7 @@ public class RecursiveAssertionDriver {
   }
 
   private boolean nodeIsJavaTypeToIgnore(Object node) {
-    String name = node.getClass().getCanonicalName();
-    // best effort if canonical name is null
-    if (name == null) name = node.getClass().getName();
-    boolean isJCLType = name.startsWith("java.") || name.startsWith("javax.");
-    return isJCLType && configuration.shouldSkipJavaLibraryTypeObjects();
+    return configuration.shouldSkipJavaLibraryTypeObjects() && RecursiveAssertionNodeType.of(node.getClass()).isJavaClassLibraryType;
   }
 
   private void evaluateFieldsOfCurrentNodeRecursively(Predicate<Object> predicate, Object node, FieldLocation fieldLocation) {
@@ -247,32 +314,105 @@ public class RecursiveAssertionDriver {
     // Cannot mark null nodes, so just lie and say marking succeeded...
     if (node == null) return false;
 
-    String objectId = identityToString(node);
-    return !visitedNodeIds.add(objectId);
+    return visitedNodesBeforeFork.contains(node) || !visitedNodes.add(node);
   }
 
-  /*
-   * This is taken verbatim from org.apache.commons.lang3.ObjectUtils .
+  /**
+   * Asserts over a range of collection elements (or map entries) each with its own driver, splitting the range to assert
+   * over its halves in parallel when it has too many elements.
    */
-  private static String identityToString(final Object object) {
-    if (object == null) {
-      return null;
+  private static class ElementsAssertion extends RecursiveTask<List<RecursiveAssertionDriver>> {
+
+    private final Predicate<Object> predicate;
+    private final List<RecursiveAssertionNode> elements;
+    private final int from;
+    private final int to;
+    private final int elementsPerTask;
+    private final FieldLocation fieldLocation;
+    private final RecursiveAssertionDriver forkingDriver;
+    private final ElementsFailuresBudget failuresBudget;
+
+    ElementsAssertion(Predicate<Object> predicate, List<RecursiveAssertionNode> elements, int from, int to,
+                      int elementsPerTask, FieldLocation fieldLocation, RecursiveAssertionDriver forkingDriver,
+                      ElementsFailuresBudget failuresBudget) {
+      this.predicate = predicate;
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.elementsPerTask = elementsPerTask;
+      this.fieldLocation = fieldLocation;
+      this.forkingDriver = forkingDriver;
+      this.failuresBudget = failuresBudget;
     }
-    final String name = object.getClass().getName();
-    final String hexString = Integer.toHexString(System.identityHashCode(object));
-    return name + '@' + hexString;
-  }
 
-  private boolean isCollection(Class<?> nodeType) {
-    return Collection.class.isAssignableFrom(nodeType);
-  }
+    @Override
+    protected List<RecursiveAssertionDriver> compute() {
+      if (to - from <= elementsPerTask) return assertOverElements();
+      int middle = (from + to) >>> 1;
+      ElementsAssertion firstHalfAssertion = new ElementsAssertion(predicate, elements, from, middle, elementsPerTask,
+                                                                   fieldLocation, forkingDriver, failuresBudget);
+      ElementsAssertion secondHalfAssertion = new ElementsAssertion(predicate, elements, middle, to, elementsPerTask,
+                                                                    fieldLocation, forkingDriver, failuresBudget);
+      // the first elements are asserted first as their failures are the ones kept, the next elements can then stop early
+      secondHalfAssertion.fork();
+      List<RecursiveAssertionDriver> elementDrivers = new ArrayList<>(to - from);
+      elementDrivers.addAll(firstHalfAssertion.compute());
+      elementDrivers.addAll(secondHalfAssertion.join());
+      return elementDrivers;
+    }
 
-  private boolean isArray(Class<?> nodeType) {
-    return nodeType.isArray();
+    private List<RecursiveAssertionDriver> assertOverElements() {
+      List<RecursiveAssertionDriver> elementDrivers = new ArrayList<>(to - from);
+      for (int elementIndex = from; elementIndex < to; elementIndex++) {
+        RecursiveAssertionNode element = elements.get(elementIndex);
+        // the element is asserted sequentially, it only sees the nodes visited before the fork and its own
+        RecursiveAssertionDriver elementDriver = new RecursiveAssertionDriver(forkingDriver.configuration,
+                                                                              forkingDriver.visitedNodes, failuresBudget);
+        elementDriver.ignoredFieldLocations = forkingDriver.ignoredFieldLocations;
+        elementDriver.assertRecursively(predicate, element.value, element.type, fieldLocation.field(element.name));
+        failuresBudget.elementAsserted(elementIndex, elementDriver.fieldsFailingTheAssertion.size());
+        elementDrivers.add(elementDriver);
+      }
+      return elementDrivers;
+    }
   }
 
-  private boolean isMap(Class<?> nodeType) {
-    return Map.class.isAssignableFrom(nodeType);
+  /**
+   * Stops the elements asserted in parallel once the elements before them have found enough failing fields.
+   * <p>
+   * The failures of the elements are kept in the elements order up to the max failures, an element only stops early when
+   * the elements before it have all been asserted and have found enough failures: its own failures would not be kept, so
+   * the kept failures are the same as when asserting the elements sequentially.
+   */
+  private static class ElementsFailuresBudget {
+
+    private final int maxFailures;
+    // failures found by each element, -1 until the element is asserted
+    private final int[] elementsFailures;
+    // the elements asserted from the first one without gaps and the failures they found
+    private int assertedElements;
+    private int assertedElementsFailures;
+    private volatile boolean exhausted;
+
+    ElementsFailuresBudget(int elementsCount, int maxFailures) {
+      this.maxFailures = maxFailures;
+      this.elementsFailures = new int[elementsCount];
+      fill(elementsFailures, -1);
+    }
+
+    synchronized void elementAsserted(int elementIndex, int failures) {
+      elementsFailures[elementIndex] = failures;
+      while (assertedElements < elementsFailures.length && elementsFailures[assertedElements] >= 0) {
+        assertedElementsFailures += elementsFailures[assertedElements];
+        assertedElements++;
+      }
+      if (assertedElementsFailures >= maxFailures) exhausted = true;
+    }
+
+    // an element can't have more failures kept than the budget
+    boolean isExhaustedBy(int elementFailures) {
+      return exhausted || elementFailures >= maxFailures;
+    }
   }
 
   // try to get the runtime type if possible or the declared one if not
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.assertion;
+
+import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
+import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What the recursive assertion needs to know about the type of a node to decide how to assert over it.
+ * <p>
+ * These facts only depend on the type, they are computed the first time a type is met and then looked up.
+ */
+final class RecursiveAssertionNodeType {
+
+  private static final Map<Class<?>, RecursiveAssertionNodeType> nodeTypes = new ConcurrentHashMap<>();
+
+  final boolean isPrimitiveOrWrapper;
+  final boolean isCollection;
+  final boolean isArray;
+  final boolean isMap;
+  final boolean isOptional;
+  // java.* or javax.* types
+  final boolean isJavaClassLibraryType;
+
+  private RecursiveAssertionNodeType(Class<?> type) {
+    isPrimitiveOrWrapper = isPrimitiveOrWrapper(type);
+    isCollection = Collection.class.isAssignableFrom(type);
+    isArray = type.isArray();
+    isMap = Map.class.isAssignableFrom(type);
+    isOptional = isOptionalOrPrimitiveOptional(type);
+    isJavaClassLibraryType = isJavaClassLibraryType(type);
+  }
+
+  static RecursiveAssertionNodeType of(Class<?> type) {
+    // not using computeIfAbsent as it would block other threads while the node type is computed
+    RecursiveAssertionNodeType nodeType = nodeTypes.get(type);
+    if (nodeType == null) {
+      nodeType = new RecursiveAssertionNodeType(type);
+      nodeTypes.putIfAbsent(type, nodeType);
+    }
+    return nodeType;
+  }
+
+  boolean isContainer() {
+    return isCollection || isArray;
+  }
+
+  boolean requiresSpecificHandling() {
+    return isCollection || isMap || isArray || isOptional;
+  }
+
+  private static boolean isJavaClassLibraryType(Class<?> type) {
+    String name = type.getCanonicalName();
+    // best effort if canonical name is null
+    if (name == null) name = type.getName();
+    return name.startsWith("java.") || name.startsWith("javax.");
+  }
+
+}
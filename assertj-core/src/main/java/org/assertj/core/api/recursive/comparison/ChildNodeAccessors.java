@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.assertj.core.util.introspection.Introspection.canExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findPublicPropertyGetter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * Caches per class the {@link MethodHandle}s reading the children nodes values of its instances, this avoids looking up
+ * the field or getter by name through reflection each time a child node value is read.
+ * <p>
+ * The accessors only cover the regular cases (a readable field or a public getter), for any other case (nested names,
+ * map keys, inaccessible members ...) the child node value is read with the reflective read given by the introspection
+ * strategy, which also takes care of reporting errors.
+ * <p>
+ * A getter is never invoked twice: when it throws an exception, the value is read from the accessor fallback field if
+ * any, then from the map entry with the child node name if the instance is a map containing it, otherwise the exception
+ * is reported in an {@link IntrospectionError}, this is the same lookup order as the reflective read.
+ */
+final class ChildNodeAccessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  // all accessors are adapted to this type to be invoked with invokeExact
+  private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+  private final BiFunction<Class<?>, String, ChildNodeAccessor> accessorResolver;
+  // getters resolution depends on Introspection bare name property methods setting, keep one cache per setting value
+  private final Map<Class<?>, Map<String, Optional<ChildNodeAccessor>>> accessorsPerClass = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<String, Optional<ChildNodeAccessor>>> accessorsWithBareNamePropertiesPerClass = new ConcurrentHashMap<>();
+
+  /**
+   * @param accessorResolver resolves the accessor of a class child node, returns null when the child node value must be
+   *          read reflectively.
+   */
+  ChildNodeAccessors(BiFunction<Class<?>, String, ChildNodeAccessor> accessorResolver) {
+    this.accessorResolver = accessorResolver;
+  }
+
+  Object getChildNodeValue(String childNodeName, Object instance, BiFunction<String, Object, Object> reflectiveRead) {
+    if (instance == null) return reflectiveRead.apply(childNodeName, instance);
+    ChildNodeAccessor accessor = accessorOf(instance.getClass(), childNodeName);
+    return accessor == null ? reflectiveRead.apply(childNodeName, instance) : accessor.read(instance);
+  }
+
+  private ChildNodeAccessor accessorOf(Class<?> clazz, String childNodeName) {
+    Map<Class<?>, Map<String, Optional<ChildNodeAccessor>>> accessors = canExtractBareNamePropertyMethods()
+        ? accessorsWithBareNamePropertiesPerClass
+        : accessorsPerClass;
+    Map<String, Optional<ChildNodeAccessor>> classAccessors = accessors.computeIfAbsent(clazz,
+                                                                                         unused -> new ConcurrentHashMap<>());
+    Optional<ChildNodeAccessor> accessor = classAccessors.get(childNodeName);
+    if (accessor == null) {
+      accessor = Optional.ofNullable(accessorResolver.apply(clazz, childNodeName));
+      classAccessors.put(childNodeName, accessor);
+    }
+    return accessor.orElse(null);
+  }
+
+  /**
+   * Resolves the accessor of the non-static field with the given name, looking for it in the class and its superclasses.
+   */
+  static ChildNodeAccessor fieldAccessor(Class<?> clazz, String fieldName) {
+    if (isNestedName(fieldName)) return null;
+    for (Class<?> declaringClass = clazz; declaringClass != null; declaringClass = declaringClass.getSuperclass()) {
+      try {
+        Field field = declaringClass.getDeclaredField(fieldName);
+        // static or synthetic fields are not supported, the reflective read reports it
+        if (isStatic(field.getModifiers()) || field.isSynthetic()) return null;
+        MethodHandle handle = handleOf(field);
+        return handle == null ? null : new ChildNodeAccessor(fieldName, handle, null, null);
+      } catch (NoSuchFieldException e) {
+        // look in the superclass
+      } catch (SecurityException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Resolves the accessor of the public getter of the given property.
+   */
+  static ChildNodeAccessor propertyAccessor(Class<?> clazz, String propertyName) {
+    if (isNestedName(propertyName) || propertyName.isEmpty()) return null;
+    Method getter = findPublicPropertyGetter(propertyName, clazz);
+    return getter == null ? null : getterAccessor(propertyName, getter, null);
+  }
+
+  /**
+   * Resolves the accessor of the given property getter if any, of the field with the given name otherwise.
+   */
+  static ChildNodeAccessor propertyOrFieldAccessor(Class<?> clazz, String name) {
+    // optional "value" is read directly from the optional
+    if (clazz == Optional.class || isNestedName(name) || name.isEmpty()) return null;
+    Method getter = findPublicPropertyGetter(name, clazz);
+    // when the getter can't be used, the reflective read decides whether to fall back to the field
+    if (getter != null) return getterAccessor(name, getter, fieldAccessor(clazz, name));
+    return fieldAccessor(clazz, name);
+  }
+
+  private static ChildNodeAccessor getterAccessor(String name, Method getter, ChildNodeAccessor fallbackFieldAccessor) {
+    MethodHandle handle = handleOf(getter);
+    return handle == null ? null : new ChildNodeAccessor(name, handle, getter, fallbackFieldAccessor);
+  }
+
+  private static MethodHandle handleOf(AccessibleObject member) {
+    try {
+      member.setAccessible(true);
+      MethodHandle accessor = member instanceof Field field ? LOOKUP.unreflectGetter(field) : LOOKUP.unreflect((Method) member);
+      return accessor.asType(ACCESSOR_TYPE);
+    } catch (RuntimeException | IllegalAccessException e) {
+      // typically an inaccessible member of a JDK class
+      return null;
+    }
+  }
+
+  private static boolean isNestedName(String name) {
+    return name.contains(".");
+  }
+
+  static final class ChildNodeAccessor {
+
+    private final String childNodeName;
+    private final MethodHandle handle;
+    // null when reading a field
+    private final Method getter;
+    // field read when the getter throws an exception, null if the getter exception must be reported
+    private final ChildNodeAccessor fallbackFieldAccessor;
+
+    private ChildNodeAccessor(String childNodeName, MethodHandle handle, Method getter,
+                              ChildNodeAccessor fallbackFieldAccessor) {
+      this.childNodeName = childNodeName;
+      this.handle = handle;
+      this.getter = getter;
+      this.fallbackFieldAccessor = fallbackFieldAccessor;
+    }
+
+    private Object read(Object instance) {
+      try {
+        return (Object) handle.invokeExact(instance);
+      } catch (Error error) {
+        throw error;
+      } catch (Throwable exception) {
+        // only getters can throw an exception, same handling as PropertyOrFieldSupport: field, map entry, then the error
+        if (fallbackFieldAccessor != null) return fallbackFieldAccessor.read(instance);
+        if (instance instanceof Map<?, ?> map && map.containsKey(childNodeName)) return map.get(childNodeName);
+        throw getterInvocationError(instance, exception);
+      }
+    }
+
+    private IntrospectionError getterInvocationError(Object instance, Throwable exception) {
+      String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getter.getName(),
+                                                                                   instance.getClass().getSimpleName(),
+                                                                                   exception);
+      return new IntrospectionError(message, new InvocationTargetException(exception), exception);
+    }
+  }
+
+}
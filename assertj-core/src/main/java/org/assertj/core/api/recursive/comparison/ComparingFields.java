@@ -30,6 +30,7 @@ public class ComparingFields implements RecursiveComparisonIntrospectionStrategy
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
+  private final ChildNodeAccessors fieldAccessors = new ChildNodeAccessors(ChildNodeAccessors::fieldAccessor);
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
@@ -39,7 +40,13 @@ public class ComparingFields implements RecursiveComparisonIntrospectionStrategy
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return FieldSupport.comparison().fieldValue(childNodeName, Object.class, instance);
+    // the accessors read private fields, only use them when it is allowed
+    if (!FieldSupport.comparison().isAllowedToUsePrivateFields()) return readFieldValue(childNodeName, instance);
+    return fieldAccessors.getChildNodeValue(childNodeName, instance, ComparingFields::readFieldValue);
+  }
+
+  private static Object readFieldValue(String fieldName, Object instance) {
+    return FieldSupport.comparison().fieldValue(fieldName, Object.class, instance);
   }
 
   @Override
@@ -40,6 +40,7 @@ public class ComparingProperties implements RecursiveComparisonIntrospectionStra
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> propertiesNamesPerClass = new ConcurrentHashMap<>();
+  private final ChildNodeAccessors propertyAccessors = new ChildNodeAccessors(ChildNodeAccessors::propertyAccessor);
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
@@ -49,7 +50,11 @@ public class ComparingProperties implements RecursiveComparisonIntrospectionStra
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return PropertySupport.instance().propertyValueOf(childNodeName, Object.class, instance);
+    return propertyAccessors.getChildNodeValue(childNodeName, instance, ComparingProperties::readPropertyValue);
+  }
+
+  private static Object readPropertyValue(String propertyName, Object instance) {
+    return PropertySupport.instance().propertyValueOf(propertyName, Object.class, instance);
   }
 
   @Override
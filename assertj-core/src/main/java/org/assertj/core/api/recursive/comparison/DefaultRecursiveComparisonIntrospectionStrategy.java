@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.internal.Objects;
+import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 /**
@@ -32,6 +33,8 @@ public class DefaultRecursiveComparisonIntrospectionStrategy implements Recursiv
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
+  // reads the children nodes values without looking up their getter or field each time
+  private final ChildNodeAccessors propertyOrFieldAccessors = new ChildNodeAccessors(ChildNodeAccessors::propertyOrFieldAccessor);
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
@@ -43,6 +46,8 @@ public class DefaultRecursiveComparisonIntrospectionStrategy implements Recursiv
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return COMPARISON.getSimpleValue(childNodeName, instance);
+    // the accessors read private fields, only use them when it is allowed
+    if (!FieldSupport.comparison().isAllowedToUsePrivateFields()) return COMPARISON.getSimpleValue(childNodeName, instance);
+    return propertyOrFieldAccessors.getChildNodeValue(childNodeName, instance, COMPARISON::getSimpleValue);
   }
 }
@@ -16,11 +16,9 @@ import static java.lang.System.identityHashCode;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
-import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Arrays.isArray;
 
-import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -125,12 +123,7 @@ public final class DualValue {
   }
 
   private static boolean isJavaType(Object o) {
-    if (o == null) return false;
-    String className = o.getClass().getName();
-    return className.startsWith("java.")
-           || className.startsWith("javax.")
-           || className.startsWith("sun.")
-           || className.startsWith("com.sun.");
+    return NodeType.of(o).isJavaType;
   }
 
   public boolean isExpectedFieldAnArray() {
@@ -273,33 +266,7 @@ public final class DualValue {
   }
 
   private static boolean isAnIterable(Object value) {
-    // Don't consider Path as an Iterable as recursively comparing them leads to a stack overflow, here's why:
-    // Iterable are compared element by element recursively
-    // Ex: /tmp/foo.txt path has /tmp as its first element
-    // so /tmp is going to be compared recursively but /tmp first element is itself leading to an infinite recursion
-    // Don't consider ValueNode as an Iterable as they only contain one value and iterating them does not make sense.
-    // Don't consider or ObjectNode as an Iterable as it holds a map but would only iterate on values and not entries.
-    return value instanceof Iterable && !(value instanceof Path || isAJsonValueNode(value) || isAnObjectNode(value));
-  }
-
-  private static boolean isAJsonValueNode(Object value) {
-    try {
-      Class<?> valueNodeClass = Class.forName("com.fasterxml.jackson.databind.node.ValueNode");
-      return valueNodeClass.isInstance(value);
-    } catch (ClassNotFoundException e) {
-      // value cannot be a ValueNode because the class couldn't be located
-      return false;
-    }
-  }
-
-  private static boolean isAnObjectNode(Object value) {
-    try {
-      Class<?> objectNodeClass = Class.forName("com.fasterxml.jackson.databind.node.ObjectNode");
-      return objectNodeClass.isInstance(value);
-    } catch (ClassNotFoundException e) {
-      // value cannot be an ObjectNode because the class couldn't be located
-      return false;
-    }
+    return NodeType.of(value).isIterable;
   }
 
   private static boolean isAnOrderedCollection(Object value) {
@@ -307,19 +274,19 @@ public final class DualValue {
   }
 
   public boolean isExpectedAnEnum() {
-    return expected != null && expected.getClass().isEnum();
+    return NodeType.of(expected).isEnum;
   }
 
   public boolean isActualAnEnum() {
-    return actual != null && actual.getClass().isEnum();
+    return NodeType.of(actual).isEnum;
   }
 
   public boolean hasNoContainerValues() {
-    return !isContainer(actual) && !isExpectedAContainer();
+    return !NodeType.of(actual).isContainer && !isExpectedAContainer();
   }
 
   public boolean isExpectedAContainer() {
-    return isContainer(expected);
+    return NodeType.of(expected).isContainer;
   }
 
   public boolean hasNoNullValues() {
@@ -331,15 +298,7 @@ public final class DualValue {
   }
 
   private static boolean isPotentialCyclingValue(Object object) {
-    if (object == null) return false;
-    // java.lang are base types that can't cycle to themselves or other types
-    // we could check more types, but that's a good start
-    String canonicalName = object.getClass().getCanonicalName();
-    // canonicalName is null for anonymous and local classes, return true as they can cycle back to other objects.
-    if (canonicalName == null) return true;
-    // enums can refer back to other object but since they are constants it is very unlikely that they generate cycles.
-    if (object.getClass().isEnum()) return false;
-    return !canonicalName.startsWith("java.lang");
+    return NodeType.of(object).isPotentialCyclingValue;
   }
 
 }
@@ -12,36 +12,45 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newLinkedHashSet;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.RandomAccess;
 import java.util.regex.Pattern;
 
 /**
  * Represents the path to a given field. Immutable
+ * <p>
+ * A field location is created for each node visited by the recursive comparison, it is kept cheap to build: child
+ * locations derive their path to use in rules from their parent one, their decomposed path shares the parent one instead
+ * of copying it and the paths hierarchy used to match rules is computed on demand.
  */
 // TODO should understand Map keys as field
 // TODO rename to FieldPath?
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
+  private static final FieldLocation ROOT = new FieldLocation(emptyList());
   private final String pathToUseInRules;
   private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
 
   public FieldLocation(List<String> path) {
     decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
     pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+  }
+
+  private FieldLocation(ChildPath decomposedPath, String pathToUseInRules) {
+    // already unmodifiable
+    this.decomposedPath = decomposedPath;
+    this.pathToUseInRules = pathToUseInRules;
   }
 
   public FieldLocation(String s) {
@@ -59,15 +68,13 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
     return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+           && Objects.equals(decomposedPath, that.decomposedPath);
   }
 
   @Override
   public int hashCode() {
     int result = Objects.hashCode(pathToUseInRules);
     result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
     return result;
   }
 
@@ -120,7 +127,10 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    // the paths hierarchy is made of this field path and its prefixes ending before a field separator (root excluded)
+    if (isRootPath(pathToUseInRules) || isRootPath(fieldPath)) return false;
+    if (pathToUseInRules.equals(fieldPath)) return true;
+    return pathToUseInRules.startsWith(fieldPath) && pathToUseInRules.startsWith(FIELD_SEPARATOR, fieldPath.length());
   }
 
   /**
@@ -148,7 +158,11 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    // try matching from the longest to the shortest path
+    for (String path = pathToUseInRules; !isRootPath(path); path = parent(path)) {
+      if (regex.matcher(path).matches()) return true;
+    }
+    return false;
   }
 
   public List<String> getDecomposedPath() {
@@ -164,9 +178,16 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(new ChildPath(decomposedPath, field), pathToUseInRulesForChild(field));
+  }
+
+  private String pathToUseInRulesForChild(String field) {
+    // array elements share the path of their parent, see pathToUseInRules(List)
+    if (field.startsWith("[")) return pathToUseInRules;
+    if (!pathToUseInRules.isEmpty()) return pathToUseInRules + FIELD_SEPARATOR + field;
+    // an empty path to use in rules can still be made of empty field names that the child path must be joined with
+    boolean hasFieldInPath = decomposedPath.stream().anyMatch(subpath -> !subpath.startsWith("["));
+    return hasFieldInPath ? FIELD_SEPARATOR + field : field;
   }
 
   public String getPathToUseInErrorReport() {
@@ -185,7 +206,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return isRootPath(pathToUseInRules);
   }
 
-  private boolean isRootPath(String pathToUseInRules) {
+  private static boolean isRootPath(String pathToUseInRules) {
     return pathToUseInRules.isEmpty();
   }
 
@@ -194,7 +215,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public static FieldLocation rootFieldLocation() {
-    return new FieldLocation(emptyList());
+    return ROOT;
   }
 
   /**
@@ -247,23 +268,93 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
-    // using LinkedHashSet to maintain leaf to root iteration order
-    // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
-    Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
-    while (!isRootPath(currentPath)) {
-      fieldAndParentFields.add(currentPath);
-      currentPath = parent(currentPath);
-    }
-    return unmodifiableSet(fieldAndParentFields);
-  }
-
-  private String parent(String currentPath) {
+  private static String parent(String currentPath) {
     int lastDot = currentPath.lastIndexOf(FIELD_SEPARATOR);
     if (lastDot < 0) {
       return "";
     }
     return currentPath.substring(0, lastDot);
   }
+
+  /**
+   * The decomposed path of a child location: its parent path followed by the child field name.
+   * <p>
+   * The parent path is shared rather than copied, the elements are only copied in an array when accessed by index or
+   * iterated, the hash code is computed from the parent one as {@link List#hashCode()} defines it.
+   */
+  private static final class ChildPath extends AbstractList<String> implements RandomAccess {
+
+    private final List<String> parentPath;
+    private final String fieldName;
+    private final int size;
+    private final int hashCode;
+    // built on demand, an immutable list
+    private List<String> elements;
+
+    private ChildPath(List<String> parentPath, String fieldName) {
+      this.parentPath = parentPath;
+      this.fieldName = fieldName;
+      this.size = parentPath.size() + 1;
+      this.hashCode = 31 * parentPath.hashCode() + Objects.hashCode(fieldName);
+    }
+
+    @Override
+    public String get(int index) {
+      return index == size - 1 ? fieldName : elements().get(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      return elements().iterator();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof ChildPath)) return super.equals(other);
+      // walk up the parent paths until reaching a shared one, children of the same node share their parent path
+      List<String> path = this;
+      List<String> otherPath = (ChildPath) other;
+      while (path != otherPath) {
+        if (!(path instanceof ChildPath childPath) || !(otherPath instanceof ChildPath otherChildPath))
+          return path.equals(otherPath);
+        if (childPath.hashCode != otherChildPath.hashCode || !Objects.equals(childPath.fieldName, otherChildPath.fieldName))
+          return false;
+        path = childPath.parentPath;
+        otherPath = otherChildPath.parentPath;
+      }
+      return true;
+    }
+
+    private List<String> elements() {
+      List<String> pathElements = elements;
+      if (pathElements == null) {
+        // collect the field names up to the first path that is not a child one or that has its elements, without building
+        // the parent paths elements
+        String[] array = new String[size];
+        int index = size;
+        List<String> path = this;
+        while (path instanceof ChildPath childPath && childPath.elements == null) {
+          array[--index] = childPath.fieldName;
+          path = childPath.parentPath;
+        }
+        for (int i = 0; i < index; i++) {
+          array[i] = path.get(i);
+        }
+        pathElements = unmodifiableList(asList(array));
+        elements = pathElements;
+      }
+      return pathElements;
+    }
+  }
 }
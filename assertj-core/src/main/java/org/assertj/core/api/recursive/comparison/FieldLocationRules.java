@@ -0,0 +1,219 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
+import static org.assertj.core.util.Sets.newHashSet;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * The field location based rules of a {@link RecursiveComparisonConfiguration} compiled to be evaluated once per field path.
+ * <p>
+ * Rules only depend on the field path to use in rules (i.e. without element indexes), the decisions are cached by path so
+ * that the rules are evaluated once for all the elements of a collection or all the instances of a type in the compared
+ * graphs. Rules applying to a field and its children (like ignored fields) reuse the decision made for the parent path,
+ * this way each path only evaluates the rules matching it exactly.
+ * <p>
+ * An instance reflects the configuration rules at the time it was created, the configuration must discard it when its
+ * rules change.
+ * <p>
+ * Each decisions cache is cleared when it reaches {@link #MAX_CACHED_DECISIONS} paths: paths made of map keys are as many
+ * as the compared map entries, they would otherwise make the caches of a frozen configuration shared by many assertions
+ * grow without limit.
+ */
+final class FieldLocationRules {
+
+  @VisibleForTesting
+  static final int MAX_CACHED_DECISIONS = 10_000;
+
+  private final Set<String> ignoredFields;
+  private final List<Pattern> ignoredFieldsRegexes;
+  private final Set<String> comparedFields;
+  // all the parent paths of the compared fields, a field having one of these paths has compared children fields
+  private final Set<String> comparedFieldsParents;
+  private final boolean ignoreCollectionOrder;
+  private final Set<String> ignoredCollectionOrderInFields;
+  private final List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes;
+  private final Set<String> ignoredOverriddenEqualsForFields;
+  private final List<Pattern> ignoredOverriddenEqualsForFieldsMatchingRegexes;
+  private final FieldComparators fieldComparators;
+
+  // decisions cached by field path, concurrent maps as a configuration can be shared by assertions run in parallel
+  private final Map<String, Boolean> ignoredFieldPaths = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> mayHaveIgnoredChildrenFieldPaths = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> childOfComparedFieldPaths = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> comparedFieldPaths = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> ignoredCollectionOrderFieldPaths = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> ignoredOverriddenEqualsFieldPaths = new ConcurrentHashMap<>();
+  private final Map<String, Optional<Comparator<?>>> comparatorByFieldPath = new ConcurrentHashMap<>();
+
+  FieldLocationRules(RecursiveComparisonConfiguration configuration) {
+    ignoredFields = newHashSet(configuration.getIgnoredFields());
+    ignoredFieldsRegexes = List.copyOf(configuration.getIgnoredFieldsRegexes());
+    comparedFields = newHashSet();
+    comparedFieldsParents = newHashSet();
+    for (FieldLocation comparedField : configuration.getComparedFields()) {
+      String comparedFieldPath = comparedField.getPathToUseInRules();
+      comparedFields.add(comparedFieldPath);
+      for (String parentPath = parentPathOf(comparedFieldPath); parentPath != null; parentPath = parentPathOf(parentPath)) {
+        comparedFieldsParents.add(parentPath);
+      }
+    }
+    ignoreCollectionOrder = configuration.getIgnoreCollectionOrder();
+    ignoredCollectionOrderInFields = newHashSet(configuration.getIgnoredCollectionOrderInFields());
+    ignoredCollectionOrderInFieldsMatchingRegexes = List.copyOf(configuration.getIgnoredCollectionOrderInFieldsMatchingRegexes());
+    ignoredOverriddenEqualsForFields = newHashSet(configuration.getIgnoredOverriddenEqualsForFields());
+    ignoredOverriddenEqualsForFieldsMatchingRegexes = List.copyOf(configuration.getIgnoredOverriddenEqualsForFieldsMatchingRegexes());
+    fieldComparators = configuration.getFieldComparators();
+  }
+
+  /**
+   * Returns whether the field with the given path or any of its parents is ignored, either by name or by regex.
+   *
+   * @param fieldPath the field path to use in rules
+   * @return whether the field with the given path or any of its parents is ignored.
+   */
+  boolean isIgnored(String fieldPath) {
+    // the root object can't be ignored
+    if (fieldPath.isEmpty()) return false;
+    return cachedDecision(ignoredFieldPaths, fieldPath, path -> isIgnored(parentPathOrRoot(path))
+                                                                || ignoredFields.contains(path)
+                                                                || anyMatch(ignoredFieldsRegexes, path));
+  }
+
+  /**
+   * Returns whether some children fields of the field with the given path could be ignored, that is if the field is ignored
+   * itself, if one of its descendants is an ignored field or if ignored fields are specified by regexes (which could match
+   * any path).
+   *
+   * @param fieldPath the field path to use in rules
+   * @return whether some children fields of the field with the given path could be ignored.
+   */
+  boolean mayHaveIgnoredChildrenFields(String fieldPath) {
+    if (!ignoredFieldsRegexes.isEmpty()) return true;
+    if (ignoredFields.isEmpty()) return false;
+    return cachedDecision(mayHaveIgnoredChildrenFieldPaths, fieldPath,
+                          path -> isIgnored(path) || ignoredFields.stream().anyMatch(ignoredField -> isDescendant(ignoredField, path)));
+  }
+
+  boolean isComparedField(String fieldPath) {
+    return comparedFields.contains(fieldPath);
+  }
+
+  /**
+   * Returns whether the field with the given path is a direct or indirect child of a compared field.
+   *
+   * @param fieldPath the field path to use in rules
+   * @return whether the field with the given path is a direct or indirect child of a compared field.
+   */
+  boolean isChildOfComparedField(String fieldPath) {
+    String parentPath = parentPathOf(fieldPath);
+    if (parentPath == null) return false;
+    return cachedDecision(childOfComparedFieldPaths, fieldPath,
+                          path -> comparedFields.contains(parentPath) || isChildOfComparedField(parentPath));
+  }
+
+  /**
+   * Returns whether the field with the given path must be compared given the compared fields, that is if the field is the
+   * root object, a compared field, a parent of a compared field or a child of one.
+   *
+   * @param fieldPath the field path to use in rules
+   * @return whether the field with the given path must be compared.
+   */
+  boolean matchesComparedField(String fieldPath) {
+    return cachedDecision(comparedFieldPaths, fieldPath, path -> path.isEmpty()
+                                                                 || comparedFields.contains(path)
+                                                                 || comparedFieldsParents.contains(path)
+                                                                 || isChildOfComparedField(path));
+  }
+
+  boolean shouldIgnoreCollectionOrder(String fieldPath) {
+    if (ignoreCollectionOrder) return true;
+    return cachedDecision(ignoredCollectionOrderFieldPaths, fieldPath,
+                          path -> ignoredCollectionOrderInFields.contains(path)
+                                  || anyMatch(ignoredCollectionOrderInFieldsMatchingRegexes, path));
+  }
+
+  boolean shouldIgnoreOverriddenEquals(String fieldPath) {
+    return cachedDecision(ignoredOverriddenEqualsFieldPaths, fieldPath,
+                          path -> ignoredOverriddenEqualsForFields.contains(path)
+                                  || anyMatch(ignoredOverriddenEqualsForFieldsMatchingRegexes, path));
+  }
+
+  Comparator<?> getComparatorForField(String fieldPath) {
+    Optional<Comparator<?>> comparator = comparatorByFieldPath.get(fieldPath);
+    if (comparator == null) {
+      comparator = Optional.ofNullable(fieldComparators.getComparatorForField(fieldPath));
+      cache(comparatorByFieldPath, fieldPath, comparator);
+    }
+    return comparator.orElse(null);
+  }
+
+  @VisibleForTesting
+  int cachedDecisionsCount() {
+    return ignoredFieldPaths.size() + mayHaveIgnoredChildrenFieldPaths.size() + childOfComparedFieldPaths.size()
+           + comparedFieldPaths.size() + ignoredCollectionOrderFieldPaths.size() + ignoredOverriddenEqualsFieldPaths.size()
+           + comparatorByFieldPath.size();
+  }
+
+  private static boolean cachedDecision(Map<String, Boolean> decisions, String fieldPath, Function<String, Boolean> rules) {
+    // not using computeIfAbsent as evaluating the rules can update the decisions of parent paths
+    Boolean decision = decisions.get(fieldPath);
+    if (decision == null) {
+      decision = rules.apply(fieldPath);
+      cache(decisions, fieldPath, decision);
+    }
+    return decision;
+  }
+
+  private static <T> void cache(Map<String, T> decisions, String fieldPath, T decision) {
+    // start over rather than evicting paths one by one, the decisions are cheap to make again
+    if (decisions.size() >= MAX_CACHED_DECISIONS) decisions.clear();
+    decisions.put(fieldPath, decision);
+  }
+
+  private static boolean anyMatch(List<Pattern> regexes, String fieldPath) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(fieldPath).matches()) return true;
+    }
+    return false;
+  }
+
+  private static boolean isDescendant(String fieldPath, String parentPath) {
+    // children of the root object can start with a field separator when their name is empty (see FieldLocation)
+    if (parentPath.isEmpty()) return !fieldPath.isEmpty();
+    return fieldPath.startsWith(parentPath + FIELD_SEPARATOR);
+  }
+
+  private static String parentPathOrRoot(String fieldPath) {
+    String parentPath = parentPathOf(fieldPath);
+    return parentPath == null ? "" : parentPath;
+  }
+
+  // null for top level fields and the root object since they don't have a parent field
+  private static String parentPathOf(String fieldPath) {
+    int lastSeparatorIndex = fieldPath.lastIndexOf(FIELD_SEPARATOR);
+    return lastSeparatorIndex < 0 ? null : fieldPath.substring(0, lastSeparatorIndex);
+  }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+/**
+ * What the recursive comparison needs to know about the class of a node value to decide how to compare it.
+ * <p>
+ * These facts only depend on the class, they are computed the first time a class is met and then looked up.
+ */
+final class NodeType {
+
+  /**
+   * How a node is compared when it is the expected value, in the order the recursive comparison checks them.
+   */
+  enum Kind {
+    ENUM,
+    ARRAY,
+    ORDERED_COLLECTION,
+    ITERABLE,
+    OPTIONAL,
+    SORTED_MAP,
+    MAP,
+    ATOMIC_BOOLEAN,
+    ATOMIC_INTEGER,
+    ATOMIC_INTEGER_ARRAY,
+    ATOMIC_LONG,
+    ATOMIC_LONG_ARRAY,
+    ATOMIC_REFERENCE,
+    ATOMIC_REFERENCE_ARRAY,
+    // compared with equals or field by field
+    OBJECT
+  }
+
+  private static final Map<Class<?>, NodeType> nodeTypes = new ConcurrentHashMap<>();
+  private static final NodeType NULL_NODE_TYPE = new NodeType(Kind.OBJECT, false, false, false, false, false, false);
+  private static final Class<?> JSON_VALUE_NODE_CLASS = loadClass("com.fasterxml.jackson.databind.node.ValueNode");
+  private static final Class<?> JSON_OBJECT_NODE_CLASS = loadClass("com.fasterxml.jackson.databind.node.ObjectNode");
+
+  final Kind kind;
+  final boolean isEnum;
+  final boolean isIterable;
+  final boolean isJavaType;
+  final boolean isContainer;
+  final boolean isPotentialCyclingValue;
+  final boolean hasOverriddenEquals;
+
+  private NodeType(Kind kind, boolean isEnum, boolean isIterable, boolean isJavaType, boolean isContainer,
+                   boolean isPotentialCyclingValue, boolean hasOverriddenEquals) {
+    this.kind = kind;
+    this.isEnum = isEnum;
+    this.isIterable = isIterable;
+    this.isJavaType = isJavaType;
+    this.isContainer = isContainer;
+    this.isPotentialCyclingValue = isPotentialCyclingValue;
+    this.hasOverriddenEquals = hasOverriddenEquals;
+  }
+
+  static NodeType of(Object value) {
+    return value == null ? NULL_NODE_TYPE : ofClass(value.getClass());
+  }
+
+  static NodeType ofClass(Class<?> clazz) {
+    // not using computeIfAbsent as it would block other threads while the node type is computed
+    NodeType nodeType = nodeTypes.get(clazz);
+    if (nodeType == null) {
+      nodeType = classify(clazz);
+      nodeTypes.putIfAbsent(clazz, nodeType);
+    }
+    return nodeType;
+  }
+
+  private static NodeType classify(Class<?> clazz) {
+    boolean isIterable = isAnIterable(clazz);
+    return new NodeType(kindOf(clazz, isIterable), clazz.isEnum(), isIterable, isJavaType(clazz), isContainer(clazz),
+                        isPotentialCyclingValue(clazz), hasOverriddenEquals(clazz));
+  }
+
+  private static Kind kindOf(Class<?> clazz, boolean isIterable) {
+    if (clazz.isEnum()) return Kind.ENUM;
+    if (clazz.isArray()) return Kind.ARRAY;
+    // ordered collections compared ignoring their order are compared as iterables
+    if (isIterable && isAnOrderedCollection(clazz)) return Kind.ORDERED_COLLECTION;
+    if (isIterable) return Kind.ITERABLE;
+    if (Optional.class.isAssignableFrom(clazz)) return Kind.OPTIONAL;
+    if (SortedMap.class.isAssignableFrom(clazz)) return Kind.SORTED_MAP;
+    if (Map.class.isAssignableFrom(clazz)) return Kind.MAP;
+    if (AtomicBoolean.class.isAssignableFrom(clazz)) return Kind.ATOMIC_BOOLEAN;
+    if (AtomicInteger.class.isAssignableFrom(clazz)) return Kind.ATOMIC_INTEGER;
+    if (AtomicIntegerArray.class.isAssignableFrom(clazz)) return Kind.ATOMIC_INTEGER_ARRAY;
+    if (AtomicLong.class.isAssignableFrom(clazz)) return Kind.ATOMIC_LONG;
+    if (AtomicLongArray.class.isAssignableFrom(clazz)) return Kind.ATOMIC_LONG_ARRAY;
+    if (AtomicReference.class.isAssignableFrom(clazz)) return Kind.ATOMIC_REFERENCE;
+    if (AtomicReferenceArray.class.isAssignableFrom(clazz)) return Kind.ATOMIC_REFERENCE_ARRAY;
+    return Kind.OBJECT;
+  }
+
+  // Don't consider Path as an Iterable as recursively comparing them leads to a stack overflow, here's why:
+  // Iterable are compared element by element recursively
+  // Ex: /tmp/foo.txt path has /tmp as its first element
+  // so /tmp is going to be compared recursively but /tmp first element is itself leading to an infinite recursion
+  // Don't consider ValueNode as an Iterable as they only contain one value and iterating them does not make sense.
+  // Don't consider or ObjectNode as an Iterable as it holds a map but would only iterate on values and not entries.
+  private static boolean isAnIterable(Class<?> clazz) {
+    return Iterable.class.isAssignableFrom(clazz)
+           && !(Path.class.isAssignableFrom(clazz) || isSubclassOf(clazz, JSON_VALUE_NODE_CLASS)
+                || isSubclassOf(clazz, JSON_OBJECT_NODE_CLASS));
+  }
+
+  private static boolean isAnOrderedCollection(Class<?> clazz) {
+    return Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES).anyMatch(type -> type.isAssignableFrom(clazz));
+  }
+
+  private static boolean isJavaType(Class<?> clazz) {
+    String className = clazz.getName();
+    return className.startsWith("java.")
+           || className.startsWith("javax.")
+           || className.startsWith("sun.")
+           || className.startsWith("com.sun.");
+  }
+
+  // same types as RecursiveHelper.isContainer
+  private static boolean isContainer(Class<?> clazz) {
+    return Iterable.class.isAssignableFrom(clazz)
+           || Map.class.isAssignableFrom(clazz)
+           || Optional.class.isAssignableFrom(clazz)
+           || AtomicReference.class.isAssignableFrom(clazz)
+           || AtomicReferenceArray.class.isAssignableFrom(clazz)
+           || AtomicBoolean.class.isAssignableFrom(clazz)
+           || AtomicInteger.class.isAssignableFrom(clazz)
+           || AtomicIntegerArray.class.isAssignableFrom(clazz)
+           || AtomicLong.class.isAssignableFrom(clazz)
+           || AtomicLongArray.class.isAssignableFrom(clazz)
+           || clazz.isArray();
+  }
+
+  private static boolean isPotentialCyclingValue(Class<?> clazz) {
+    // java.lang are base types that can't cycle to themselves or other types
+    // we could check more types, but that's a good start
+    String canonicalName = clazz.getCanonicalName();
+    // canonicalName is null for anonymous and local classes, return true as they can cycle back to other objects.
+    if (canonicalName == null) return true;
+    // enums can refer back to other object but since they are constants it is very unlikely that they generate cycles.
+    if (clazz.isEnum()) return false;
+    return !canonicalName.startsWith("java.lang");
+  }
+
+  // whether the class has a non-Object.equals() method somewhere between itself and just below Object in its inheritance
+  private static boolean hasOverriddenEquals(Class<?> clazz) {
+    for (Class<?> c = clazz; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod("equals", Object.class);
+        return true;
+      } catch (Exception ignored) {}
+    }
+    return false;
+  }
+
+  private static boolean isSubclassOf(Class<?> clazz, Class<?> superClass) {
+    return superClass != null && superClass.isAssignableFrom(clazz);
+  }
+
+  private static Class<?> loadClass(String className) {
+    try {
+      return Class.forName(className);
+    } catch (ClassNotFoundException e) {
+      // values can't be instances of the class since it couldn't be located
+      return null;
+    }
+  }
+
+}
@@ -12,8 +12,8 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import java.util.Comparator;
-import java.util.List;
+import org.assertj.core.internal.ComparisonResultsCache;
+import org.assertj.core.internal.NonOrderingComparator;
 
 /**
  * {@code Comparator} comparing objects recursively as in {@link org.assertj.core.api.RecursiveComparisonAssert}.
@@ -23,10 +23,12 @@ import java.util.List;
  *
  * @since 3.24.0
  */
-public class RecursiveComparator implements Comparator<Object> {
+public class RecursiveComparator implements NonOrderingComparator<Object> {
 
   private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
   private final RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator;
+  // null if the comparison results are not cached
+  private final ComparisonResultsCache comparisonResultsCache;
 
   /**
    * Returns a new {@code RecursiveComparator} that uses the default {@link RecursiveComparisonConfiguration}
@@ -45,12 +47,37 @@ public class RecursiveComparator implements Comparator<Object> {
    * @param recursiveComparisonConfiguration the {@code RecursiveComparisonConfiguration} instance to be used
    */
   public RecursiveComparator(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this(recursiveComparisonConfiguration, null);
+  }
+
+  private RecursiveComparator(RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                              ComparisonResultsCache comparisonResultsCache) {
     this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
     this.recursiveComparisonDifferenceCalculator = new RecursiveComparisonDifferenceCalculator();
+    this.comparisonResultsCache = comparisonResultsCache;
+  }
+
+  /**
+   * Returns a new {@code RecursiveComparator} with the same configuration that compares each pair of objects at most once,
+   * the results being cached by the identity of the compared objects (up to a bounded number of pairs).
+   * <p>
+   * The returned comparator is meant to be used for a single assertion comparing the same objects several times, it
+   * should not be kept longer as it would not see the changes made to objects already compared.
+   *
+   * @return a new {@code RecursiveComparator} caching its comparison results.
+   */
+  public RecursiveComparator cachingComparisonResults() {
+    return new RecursiveComparator(recursiveComparisonConfiguration, new ComparisonResultsCache());
+  }
+
+  private boolean areEqual(Object actual, Object expected) {
+    if (comparisonResultsCache != null) return comparisonResultsCache.areEqual(actual, expected, this::areRecursivelyEqual);
+    return areRecursivelyEqual(actual, expected);
   }
 
-  private List<ComparisonDifference> determineDifferencesWith(Object actual, Object expected) {
-    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration);
+  private boolean areRecursivelyEqual(Object actual, Object expected) {
+    // only the comparison outcome matters, no need to find and describe all the differences
+    return recursiveComparisonDifferenceCalculator.areEqual(actual, expected, recursiveComparisonConfiguration);
   }
 
   public String getDescription() {
@@ -68,7 +95,7 @@ public class RecursiveComparator implements Comparator<Object> {
   @Override
   public int compare(Object actual, Object other) {
     if (actual == other) return 0;
-    if (actual != null && other != null) return determineDifferencesWith(actual, other).size();
+    if (actual != null && other != null) return areEqual(actual, other) ? 0 : 1;
     // either actual or other is null but not both => can't be equal
     return -1;
   }
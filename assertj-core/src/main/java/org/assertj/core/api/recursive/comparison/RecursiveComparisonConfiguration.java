@@ -23,10 +23,13 @@ import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkState;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +37,9 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
-import java.util.function.Predicate;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -74,6 +78,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   private boolean ignoreCollectionOrder = false;
   private Set<String> ignoredCollectionOrderInFields = new LinkedHashSet<>();
   private final List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes = new ArrayList<>();
+  private boolean matchCollectionElementsByFingerprint = false;
 
   // registered comparators section
   private TypeComparators typeComparators = defaultTypeComparators();
@@ -83,20 +88,33 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   private TypeMessages typeMessages = new TypeMessages();
   private FieldMessages fieldMessages = new FieldMessages();
 
-  // track field locations of fields of type to compare, needed to compare child nodes
-  // for example if we want to compare Person type, we must compare Person fields too event though they are not of type Person
-  private final Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare = new LinkedHashSet<>();
-
-  public void registerFieldLocationToCompareBecauseOfTypesToCompare(FieldLocation fieldLocation) {
-    fieldLocationsToCompareBecauseOfTypesToCompare.add(fieldLocation);
-  }
-
   private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
 
   private boolean compareEnumAgainstString = false;
 
+  // number of threads comparing independent sub graphs, 1 means the comparison is not done in parallel
+  private int parallelism = 1;
+
+  // the number of differences to report, the comparison stops once they have been found unless a listener needs them all
+  private int maxDifferences = Integer.MAX_VALUE;
+
+  // notified of each difference found, null if there is none
+  private Consumer<ComparisonDifference> differenceListener;
+
+  // field location rules compiled on demand, discarded when the rules change, volatile to safely publish the rules of a
+  // configuration shared by assertions running in different threads
+  private volatile FieldLocationRules fieldLocationRules;
+
+  // a frozen configuration can't be modified, see frozen()
+  private final boolean frozen;
+
+  // type comparators found for the compared types, only cached by frozen configurations as their comparators can't change
+  private final Map<Class<?>, Optional<Comparator<?>>> typeComparatorByType;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
+    this.frozen = false;
+    this.typeComparatorByType = null;
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
     this.ignoreAllActualEmptyOptionalFields = builder.ignoreAllActualEmptyOptionalFields;
     this.strictTypeChecking = builder.strictTypeChecking;
@@ -110,6 +128,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.ignoreCollectionOrder = builder.ignoreCollectionOrder;
     this.ignoredCollectionOrderInFields = newLinkedHashSet(builder.ignoredCollectionOrderInFields);
     ignoreCollectionOrderInFieldsMatchingRegexes(builder.ignoredCollectionOrderInFieldsMatchingRegexes);
+    this.matchCollectionElementsByFingerprint = builder.matchCollectionElementsByFingerprint;
+    this.parallelism = builder.parallelism;
+    this.maxDifferences = builder.maxDifferences;
+    this.differenceListener = builder.differenceListener;
     this.typeComparators = builder.typeComparators;
     this.fieldComparators = builder.fieldComparators;
     this.fieldMessages = builder.fieldMessages;
@@ -121,6 +143,90 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public RecursiveComparisonConfiguration(Representation representation) {
     super();
     this.representation = representation;
+    this.frozen = false;
+    this.typeComparatorByType = null;
+  }
+
+  private RecursiveComparisonConfiguration(RecursiveComparisonConfiguration configuration, boolean frozen) {
+    super(configuration);
+    this.representation = configuration.representation;
+    this.strictTypeChecking = configuration.strictTypeChecking;
+    this.ignoreAllActualNullFields = configuration.ignoreAllActualNullFields;
+    this.ignoreAllActualEmptyOptionalFields = configuration.ignoreAllActualEmptyOptionalFields;
+    this.ignoreAllExpectedNullFields = configuration.ignoreAllExpectedNullFields;
+    this.comparedFields = new LinkedHashSet<>(configuration.comparedFields);
+    this.comparedTypes = new LinkedHashSet<>(configuration.comparedTypes);
+    this.ignoredOverriddenEqualsForTypes.addAll(configuration.ignoredOverriddenEqualsForTypes);
+    this.ignoredOverriddenEqualsForFields = new ArrayList<>(configuration.ignoredOverriddenEqualsForFields);
+    this.ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(configuration.ignoredOverriddenEqualsForFieldsMatchingRegexes);
+    this.ignoreAllOverriddenEquals = configuration.ignoreAllOverriddenEquals;
+    this.ignoreCollectionOrder = configuration.ignoreCollectionOrder;
+    this.ignoredCollectionOrderInFields = new LinkedHashSet<>(configuration.ignoredCollectionOrderInFields);
+    this.ignoredCollectionOrderInFieldsMatchingRegexes.addAll(configuration.ignoredCollectionOrderInFieldsMatchingRegexes);
+    this.matchCollectionElementsByFingerprint = configuration.matchCollectionElementsByFingerprint;
+    this.typeComparators = copyOf(configuration.typeComparators);
+    this.fieldComparators = copyOf(configuration.fieldComparators);
+    this.typeMessages = copyOf(configuration.typeMessages);
+    this.fieldMessages = copyOf(configuration.fieldMessages);
+    this.introspectionStrategy = configuration.introspectionStrategy;
+    this.compareEnumAgainstString = configuration.compareEnumAgainstString;
+    this.parallelism = configuration.parallelism;
+    this.maxDifferences = configuration.maxDifferences;
+    this.differenceListener = configuration.differenceListener;
+    this.frozen = frozen;
+    this.typeComparatorByType = frozen ? new ConcurrentHashMap<>() : null;
+    // the rules of a frozen configuration never change, they are compiled once for all the comparisons using it
+    if (frozen) fieldLocationRules = new FieldLocationRules(this);
+  }
+
+  /**
+   * Returns a frozen copy of this configuration, or this configuration if it is already frozen.
+   * <p>
+   * A frozen configuration can't be modified, attempting to do so throws an {@link IllegalStateException}. It has its own
+   * copy of the comparison rules (changing this configuration afterward does not affect it) and builds the structures
+   * used to apply them once, it can thus be shared by assertions running in different threads.
+   * <p>
+   * The decisions made for the compared field paths are cached in a bounded way (paths made of map keys are as many as the
+   * compared map entries), a frozen configuration can be kept for a whole test suite, in a static field for example.
+   * <p>
+   * Assertions started from a frozen configuration leave it untouched, they modify a copy of it instead, example:
+   * <pre><code class='java'> RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+   *                                                                                 .withIgnoredFields("id")
+   *                                                                                 .build()
+   *                                                                                 .frozen();
+   *
+   * // pass: id is ignored
+   * assertThat(sherlock).usingRecursiveComparison(configuration)
+   *                     .isEqualTo(sherlockClone);
+   *
+   * // pass: id and name are ignored, configuration still only ignores id
+   * assertThat(sherlock).usingRecursiveComparison(configuration)
+   *                     .ignoringFields("name")
+   *                     .isEqualTo(sherlockWithAnotherName);</code></pre>
+   *
+   * @return a frozen copy of this configuration, or this configuration if it is already frozen.
+   */
+  public RecursiveComparisonConfiguration frozen() {
+    return frozen ? this : new RecursiveComparisonConfiguration(this, true);
+  }
+
+  /**
+   * Returns a modifiable copy of this configuration if it is frozen, or this configuration otherwise.
+   *
+   * @return a modifiable copy of this configuration if it is frozen, or this configuration otherwise.
+   */
+  public RecursiveComparisonConfiguration unfrozen() {
+    return frozen ? new RecursiveComparisonConfiguration(this, false) : this;
+  }
+
+  /**
+   * Returns whether this configuration is frozen, i.e. whether it can't be modified anymore.
+   *
+   * @return whether this configuration is frozen.
+   */
+  @Override
+  public boolean isFrozen() {
+    return frozen;
   }
 
   public RecursiveComparisonConfiguration() {
@@ -132,11 +238,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean hasComparatorForField(String fieldName) {
-    return fieldComparators.hasComparatorForField(fieldName);
+    return getComparatorForField(fieldName) != null;
   }
 
   public Comparator<?> getComparatorForField(String fieldName) {
-    return fieldComparators.getComparatorForField(fieldName);
+    return fieldLocationRules().getComparatorForField(fieldName);
   }
 
   public boolean hasCustomMessageForField(String fieldName) {
@@ -148,11 +254,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public FieldComparators getFieldComparators() {
-    return fieldComparators;
+    // a copy so that registering comparators in it leaves a frozen configuration untouched
+    return frozen ? copyOf(fieldComparators) : fieldComparators;
   }
 
   public boolean hasComparatorForType(Class<?> keyType) {
-    return typeComparators.hasComparatorForType(keyType);
+    return getComparatorForType(keyType) != null;
   }
 
   public boolean hasCustomComparators() {
@@ -160,7 +267,14 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public Comparator<?> getComparatorForType(Class<?> fieldType) {
-    return typeComparators.getComparatorForType(fieldType);
+    if (typeComparatorByType == null || fieldType == null) return typeComparators.getComparatorForType(fieldType);
+    // looking up a type comparator walks the type hierarchy, frozen configurations only do it once per type
+    Optional<Comparator<?>> typeComparator = typeComparatorByType.get(fieldType);
+    if (typeComparator == null) {
+      typeComparator = Optional.ofNullable(typeComparators.getComparatorForType(fieldType));
+      typeComparatorByType.putIfAbsent(fieldType, typeComparator);
+    }
+    return typeComparator.orElse(null);
   }
 
   public boolean hasCustomMessageForType(Class<?> fieldType) {
@@ -172,7 +286,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public TypeComparators getTypeComparators() {
-    return typeComparators;
+    return frozen ? copyOf(typeComparators) : typeComparators;
   }
 
   Stream<Entry<Class<?>, Comparator<?>>> comparatorByTypes() {
@@ -199,6 +313,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param ignoringAllActualEmptyOptionalFields whether to ignore actual empty optional fields in the recursive comparison
    */
   public void setIgnoreAllActualEmptyOptionalFields(boolean ignoringAllActualEmptyOptionalFields) {
+    checkNotFrozen();
     this.ignoreAllActualEmptyOptionalFields = ignoringAllActualEmptyOptionalFields;
   }
 
@@ -214,6 +329,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param ignoreAllActualNullFields whether to ignore actual null fields in the recursive comparison
    */
   public void setIgnoreAllActualNullFields(boolean ignoreAllActualNullFields) {
+    checkNotFrozen();
     this.ignoreAllActualNullFields = ignoreAllActualNullFields;
   }
 
@@ -225,9 +341,36 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param ignoreAllExpectedNullFields whether to ignore expected null fields in the recursive comparison
    */
   public void setIgnoreAllExpectedNullFields(boolean ignoreAllExpectedNullFields) {
+    checkNotFrozen();
     this.ignoreAllExpectedNullFields = ignoreAllExpectedNullFields;
   }
 
+  @Override
+  public void ignoreFields(String... fieldsToIgnore) {
+    checkNotFrozen();
+    super.ignoreFields(fieldsToIgnore);
+    fieldLocationRulesChanged();
+  }
+
+  @Override
+  public void ignoreFieldsMatchingRegexes(String... regexes) {
+    checkNotFrozen();
+    super.ignoreFieldsMatchingRegexes(regexes);
+    fieldLocationRulesChanged();
+  }
+
+  @Override
+  public void ignoreFieldsOfTypes(Class<?>... types) {
+    checkNotFrozen();
+    super.ignoreFieldsOfTypes(types);
+  }
+
+  @Override
+  public void ignoreFieldsOfTypesMatchingRegexes(String... regexes) {
+    checkNotFrozen();
+    super.ignoreFieldsOfTypesMatchingRegexes(regexes);
+  }
+
   /**
    * Adds the given fields and their subfields to the set of fields from the object under test to compare (no other fields will be compared).
    * <p>
@@ -244,7 +387,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param fieldNamesToCompare the fields of the object under test to compare in the comparison.
    */
   public void compareOnlyFields(String... fieldNamesToCompare) {
+    checkNotFrozen();
     Stream.of(fieldNamesToCompare).map(FieldLocation::new).forEach(comparedFields::add);
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -257,6 +402,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param typesToCompare the types to compare in the recursive comparison.
    */
   public void compareOnlyFieldsOfTypes(Class<?>... typesToCompare) {
+    checkNotFrozen();
     stream(typesToCompare).map(AbstractRecursiveOperationConfiguration::asWrapperIfPrimitiveType)
                           .forEach(comparedTypes::add);
   }
@@ -267,7 +413,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @return the set of fields from the object under test to compare.
    */
   public Set<FieldLocation> getComparedFields() {
-    return comparedFields;
+    return readOnlyIfFrozen(comparedFields);
   }
 
   boolean someComparedFieldsHaveBeenSpecified() {
@@ -276,9 +422,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public boolean isOrIsChildOfAnyComparedFields(FieldLocation currentFieldLocation) {
-    return comparedFields.stream()
-                         .anyMatch(comparedField -> comparedField.equals(currentFieldLocation)
-                                                    || comparedField.hasChild(currentFieldLocation));
+    return comparedFields.contains(currentFieldLocation)
+           || fieldLocationRules().isChildOfComparedField(currentFieldLocation.getPathToUseInRules());
   }
 
   /**
@@ -287,7 +432,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @return the set of types from the object under test to compare.
    */
   public Set<Class<?>> getComparedTypes() {
-    return comparedTypes;
+    return readOnlyIfFrozen(comparedTypes);
   }
 
   /**
@@ -296,6 +441,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * See {@link RecursiveComparisonAssert#ignoringAllOverriddenEquals()} for examples.
    */
   public void ignoreAllOverriddenEquals() {
+    checkNotFrozen();
     ignoreAllOverriddenEquals = true;
   }
 
@@ -305,6 +451,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * See {@link RecursiveComparisonAssert#usingOverriddenEquals()} for examples.
    */
   public void useOverriddenEquals() {
+    checkNotFrozen();
     ignoreAllOverriddenEquals = false;
   }
 
@@ -316,8 +463,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param fields the fields to force a recursive comparison on.
    */
   public void ignoreOverriddenEqualsForFields(String... fields) {
+    checkNotFrozen();
     List<String> fieldLocations = list(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -328,9 +477,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param regexes regexes used to specify the fields we want to force a recursive comparison on.
    */
   public void ignoreOverriddenEqualsForFieldsMatchingRegexes(String... regexes) {
+    checkNotFrozen();
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .collect(toList()));
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -341,6 +492,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param types the types to the list of types to force a recursive comparison on.
    */
   public void ignoreOverriddenEqualsForTypes(Class<?>... types) {
+    checkNotFrozen();
     ignoredOverriddenEqualsForTypes.addAll(list(types));
   }
 
@@ -360,7 +512,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param ignoreCollectionOrder whether to ignore collection order in the comparison.
    */
   public void ignoreCollectionOrder(boolean ignoreCollectionOrder) {
+    checkNotFrozen();
     this.ignoreCollectionOrder = ignoreCollectionOrder;
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -375,8 +529,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param fieldsToIgnoreCollectionOrder the fields of the object under test to ignore collection order in the comparison.
    */
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
+    checkNotFrozen();
     List<String> fieldLocations = list(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -385,7 +541,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @return the list fields from the object under test to ignore collection order in the recursive comparison.
    */
   public Set<String> getIgnoredCollectionOrderInFields() {
-    return ignoredCollectionOrderInFields;
+    return readOnlyIfFrozen(ignoredCollectionOrderInFields);
   }
 
   /**
@@ -396,9 +552,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param regexes regexes used to find the object under test fields to ignore collection order in the comparison.
    */
   public void ignoreCollectionOrderInFieldsMatchingRegexes(String... regexes) {
+    checkNotFrozen();
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -407,7 +565,112 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @return the list of regexes used to find the object under test fields to ignore collection order in the recursive comparison.
    */
   public List<Pattern> getIgnoredCollectionOrderInFieldsMatchingRegexes() {
-    return ignoredCollectionOrderInFieldsMatchingRegexes;
+    return readOnlyIfFrozen(ignoredCollectionOrderInFieldsMatchingRegexes);
+  }
+
+  /**
+   * Sets whether to pair the elements of collections compared ignoring their order by using a structural fingerprint of the
+   * elements before comparing them recursively.
+   * <p>
+   * The fingerprint honors ignored fields and custom comparators, it allows to quickly find matching elements when their
+   * {@code hashCode} is not relevant for the comparison, for example when it is computed from ignored fields.
+   * In this mode, the elements are also matched optimally: an expected element is not reported as unmatched if the actual
+   * element it could be matched with was already matched to another expected element which could have been matched differently.
+   * <p>
+   * See {@link RecursiveComparisonAssert#matchingCollectionElementsByFingerprint()} for code examples.
+   *
+   * @param matchCollectionElementsByFingerprint whether to pair unordered collection elements by structural fingerprint.
+   */
+  public void matchCollectionElementsByFingerprint(boolean matchCollectionElementsByFingerprint) {
+    checkNotFrozen();
+    this.matchCollectionElementsByFingerprint = matchCollectionElementsByFingerprint;
+  }
+
+  public boolean isMatchingCollectionElementsByFingerprint() {
+    return matchCollectionElementsByFingerprint;
+  }
+
+  /**
+   * Sets the number of threads used to compare independent sub graphs in parallel, that is the elements of ordered
+   * collections and arrays and the values of maps, a parallelism of 1 (the default) compares everything in the current thread.
+   * <p>
+   * The differences found are the same whatever the parallelism is, except for values shared by several elements which
+   * are compared in each of them instead of being reported once as already visited.
+   * <p>
+   * Parallelism is not used when comparing only some types (see {@link #compareOnlyFieldsOfTypes(Class[])}).
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+   *
+   * @param parallelism the number of threads used to compare independent sub graphs.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkNotFrozen();
+    checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  boolean comparesInParallel() {
+    // comparing only some types registers field locations while comparing, this is not thread safe
+    return parallelism > 1 && !hasComparedTypes();
+  }
+
+  /**
+   * Sets the maximum number of differences to report, the comparison stops once this number of differences have been
+   * found, this bounds the time and memory spent and the size of the error message when comparing large graphs that
+   * differ a lot.
+   * <p>
+   * The differences reported are the first ones found, sorted by path. When a {@link #setDifferenceListener(Consumer)
+   * difference listener} is set, the comparison goes on to notify it of all the differences but the ones over this
+   * limit are not kept.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for code examples.
+   *
+   * @param maxDifferences the maximum number of differences to report.
+   * @throws IllegalArgumentException if maxDifferences is less than 1.
+   */
+  public void setMaxDifferences(int maxDifferences) {
+    checkNotFrozen();
+    checkArgument(maxDifferences > 0, "maxDifferences must be greater than 0 but was %s", maxDifferences);
+    this.maxDifferences = maxDifferences;
+  }
+
+  public int getMaxDifferences() {
+    return maxDifferences;
+  }
+
+  boolean hasMaxDifferences() {
+    return maxDifferences != Integer.MAX_VALUE;
+  }
+
+  /**
+   * Sets the listener notified of each difference as soon as it is found, this allows to consume all the differences
+   * incrementally, even the ones over {@link #setMaxDifferences(int) maxDifferences} that are not kept.
+   * <p>
+   * The listener is called in the thread running the comparison, in the order the differences are found which is not the
+   * order of the reported differences.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withDifferenceListener(Consumer)} for code examples.
+   *
+   * @param differenceListener the listener notified of each difference found.
+   * @throws NullPointerException if the given listener is null.
+   */
+  public void setDifferenceListener(Consumer<ComparisonDifference> differenceListener) {
+    checkNotFrozen();
+    this.differenceListener = requireNonNull(differenceListener, "The difference listener must not be null");
+  }
+
+  /**
+   * Returns the listener notified of each difference found, null if there is none.
+   *
+   * @return the listener notified of each difference found, null if there is none.
+   */
+  public Consumer<ComparisonDifference> getDifferenceListener() {
+    return differenceListener;
   }
 
   /**
@@ -426,6 +689,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @throws NullPointerException if the given comparator is null.
    */
   public <T> void registerComparatorForType(Comparator<? super T> comparator, Class<T> type) {
+    checkNotFrozen();
     requireNonNull(comparator, "Expecting a non null Comparator");
     typeComparators.registerComparator(type, comparator);
   }
@@ -469,8 +733,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @throws NullPointerException if the given comparator is null.
    */
   public void registerComparatorForFields(Comparator<?> comparator, String... fieldLocations) {
+    checkNotFrozen();
     requireNonNull(comparator, "Expecting a non null Comparator");
     Stream.of(fieldLocations).forEach(fieldLocation -> fieldComparators.registerComparator(fieldLocation, comparator));
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -521,7 +787,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @since 3.24.0
    */
   public void registerEqualsForFieldsMatchingRegexes(BiPredicate<?, ?> equals, String... regexes) {
+    checkNotFrozen();
     fieldComparators.registerComparatorForFieldsMatchingRegexes(regexes, toComparator(equals));
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -539,6 +807,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param fieldLocations the field locations the error message should be used for
    */
   public void registerErrorMessageForFields(String message, String... fieldLocations) {
+    checkNotFrozen();
     Stream.of(fieldLocations).forEach(fieldLocation -> fieldMessages.registerMessage(fieldLocation, message));
   }
 
@@ -554,6 +823,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param clazz the type the error message should be used for
    */
   public void registerErrorMessageForType(String message, Class<?> clazz) {
+    checkNotFrozen();
     typeMessages.registerMessage(clazz, message);
   }
 
@@ -566,6 +836,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param strictTypeChecking whether the recursive comparison will check that actual's type is compatible with expected's type.
    */
   public void strictTypeChecking(boolean strictTypeChecking) {
+    checkNotFrozen();
     this.strictTypeChecking = strictTypeChecking;
   }
 
@@ -574,15 +845,15 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public List<Class<?>> getIgnoredOverriddenEqualsForTypes() {
-    return ignoredOverriddenEqualsForTypes;
+    return readOnlyIfFrozen(ignoredOverriddenEqualsForTypes);
   }
 
   public List<String> getIgnoredOverriddenEqualsForFields() {
-    return ignoredOverriddenEqualsForFields;
+    return readOnlyIfFrozen(ignoredOverriddenEqualsForFields);
   }
 
   public List<Pattern> getIgnoredOverriddenEqualsForFieldsMatchingRegexes() {
-    return ignoredOverriddenEqualsForFieldsMatchingRegexes;
+    return readOnlyIfFrozen(ignoredOverriddenEqualsForFieldsMatchingRegexes);
   }
 
   public Stream<Entry<String, Comparator<?>>> comparatorByFields() {
@@ -601,6 +872,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param introspectionStrategy the {@link RecursiveComparisonIntrospectionStrategy} to use
    */
   public void setIntrospectionStrategy(RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
+    checkNotFrozen();
     this.introspectionStrategy = introspectionStrategy;
   }
 
@@ -612,6 +884,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    * @param compareEnumAgainstString whether to allow the recursive comparison to compare enum field against string field.
    */
   public void allowComparingEnumAgainstString(boolean compareEnumAgainstString) {
+    checkNotFrozen();
     this.compareEnumAgainstString = compareEnumAgainstString;
   }
 
@@ -629,10 +902,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return java.util.Objects.hash(fieldComparators, ignoreAllActualEmptyOptionalFields, ignoreAllActualNullFields,
                                   ignoreAllExpectedNullFields, ignoreAllOverriddenEquals, ignoreCollectionOrder,
                                   ignoredCollectionOrderInFields, ignoredCollectionOrderInFieldsMatchingRegexes,
-                                  getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
+                                  matchCollectionElementsByFingerprint, getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, parallelism, maxDifferences,
+                                  differenceListener);
   }
 
   @Override
@@ -647,6 +921,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && ignoreAllExpectedNullFields == other.ignoreAllExpectedNullFields
            && ignoreAllOverriddenEquals == other.ignoreAllOverriddenEquals
            && ignoreCollectionOrder == other.ignoreCollectionOrder
+           && matchCollectionElementsByFingerprint == other.matchCollectionElementsByFingerprint
+           && parallelism == other.parallelism
+           && maxDifferences == other.maxDifferences
+           && java.util.Objects.equals(differenceListener, other.differenceListener)
            && java.util.Objects.equals(ignoredCollectionOrderInFields, other.ignoredCollectionOrderInFields)
            && java.util.Objects.equals(getIgnoredFields(), other.getIgnoredFields())
            && java.util.Objects.equals(comparedFields, other.comparedFields)
@@ -680,6 +958,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeIgnoreCollectionOrder(description);
     describeIgnoredCollectionOrderInFields(description);
     describeIgnoredCollectionOrderInFieldsMatchingRegexes(description);
+    describeMatchCollectionElementsByFingerprint(description);
+    describeParallelism(description);
+    describeMaxDifferences(description);
     describeRegisteredComparatorByTypes(description);
     describeRegisteredComparatorForFields(description);
     describeTypeCheckingStrictness(description);
@@ -708,27 +989,30 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     if (comparedFields.isEmpty() && comparedTypes.isEmpty()) return true;
     // if we have compared types, we can't ignore any values since they could have fields of types to compare
     if (!comparedTypes.isEmpty()) return true;
-    return comparedFields.stream().anyMatch(matchesComparedField(dualValue.fieldLocation));
-  }
-
-  private static Predicate<FieldLocation> matchesComparedField(FieldLocation field) {
-    // a field f must be compared if any compared fields is f itself (obviously), a parent of f or a child of f.
+    // a field f must be compared if it is the root or if any compared fields is f itself (obviously), a parent of f or a child of f.
     // - "name.first" must be compared if "name" is a compared field so will other "name" subfields like "name.last"
     // - "name" must be compared if "name.first" is a compared field otherwise "name" is ignored and "name.first" too
-    return comparedField -> field.isRoot() // always compare root!
-                            || field.exactlyMatches(comparedField)
-                            || field.hasParent(comparedField) // ex: field "name.first" and "name" compared field
-                            || field.hasChild(comparedField); // ex: field "name" and "name.first" compared field
+    return fieldLocationRules().matchesComparedField(dualValue.fieldLocation.getPathToUseInRules());
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getActualChildrenNodeNamesToCompare(dualValue, new HashSet<>());
+  }
+
+  /**
+   * Same as {@link #getActualChildrenNodeNamesToCompare(DualValue)} but registers the dual value location in the given
+   * field locations of the comparison when its type is a compared type, the comparison state is kept out of this
+   * configuration as a configuration can be shared by many comparisons.
+   */
+  Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue,
+                                                  Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare) {
     Set<String> actualChildrenNodeNames = getChildrenNodeNamesOf(dualValue.actual);
     // if we have some compared types, we can't discard any nodes since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
     // and exclude later on any differences that were on fields not to compare
     if (!comparedTypes.isEmpty()) {
-      registerFieldLocationOfFieldsOfTypesToCompare(dualValue);
+      registerFieldLocationOfFieldsOfTypesToCompare(dualValue, fieldLocationsToCompareBecauseOfTypesToCompare);
       return actualChildrenNodeNames;
     }
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
@@ -737,7 +1021,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // DualValues are built by introspecting node values which is expensive.
     return actualChildrenNodeNames.stream()
                                   // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
+                                  .filter(fieldName -> !fieldLocationRules().isIgnored(dualValue.fieldLocation.getPathToUseInRulesForChildField(fieldName)))
                                   .map(fieldName -> dualValueForField(dualValue, fieldName))
                                   // evaluate field value ignoring criteria
                                   .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
@@ -764,8 +1048,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+  boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
+    return fieldLocationRules().isIgnored(fieldLocation.getPathToUseInRules());
+  }
+
+  boolean someChildrenFieldsMayBeIgnored(FieldLocation fieldLocation) {
+    return fieldLocationRules().mayHaveIgnoredChildrenFields(fieldLocation.getPathToUseInRules());
   }
 
   private DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
@@ -815,9 +1103,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    return fieldLocationRules().shouldIgnoreCollectionOrder(fieldLocation.getPathToUseInRules());
   }
 
   private void describeComparedFields(StringBuilder description) {
@@ -907,6 +1193,21 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                                                                                                                          describeRegexes(ignoredCollectionOrderInFieldsMatchingRegexes)));
   }
 
+  private void describeMatchCollectionElementsByFingerprint(StringBuilder description) {
+    if (matchCollectionElementsByFingerprint)
+      description.append("- collection elements compared ignoring order were matched by their structural fingerprint first%n".formatted());
+  }
+
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append("- collection elements and map values were compared in parallel using %s threads%n".formatted(parallelism));
+  }
+
+  private void describeMaxDifferences(StringBuilder description) {
+    if (hasMaxDifferences())
+      description.append("- at most %s differences were reported%n".formatted(maxDifferences));
+  }
+
   private void describeIntrospectionStrategy(StringBuilder description) {
     description.append("- the introspection strategy used was: %s%n".formatted(introspectionStrategy.getDescription()));
   }
@@ -916,20 +1217,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
-    if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredOverriddenEqualsForFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private boolean matchesAnIgnoredOverriddenEqualsType(Class<?> clazz) {
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
-           || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
+    return fieldLocationRules().shouldIgnoreOverriddenEquals(dualValue.fieldLocation.getPathToUseInRules());
   }
 
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
@@ -959,7 +1252,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            || getIgnoredTypesRegexes().stream().anyMatch(regex -> regex.matcher(actualType.getName()).matches());
   }
 
-  private void registerFieldLocationOfFieldsOfTypesToCompare(DualValue dualValue) {
+  private void registerFieldLocationOfFieldsOfTypesToCompare(DualValue dualValue,
+                                                             Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare) {
     if (comparedTypes.isEmpty()) return;
     // We check actual type against the types to compare or expected type in case actual was null assuming expected
     // has the same type as actual
@@ -969,15 +1263,6 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     }
   }
 
-  private boolean matchesAnIgnoredCollectionOrderInField(FieldLocation fieldLocation) {
-    return ignoredCollectionOrderInFields.stream().anyMatch(fieldLocation::exactlyMatches);
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(FieldLocation fieldLocation) {
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private String describeComparedFields() {
     return join(comparedFields.stream().map(FieldLocation::shortDescription).collect(toList()));
   }
@@ -1147,13 +1432,14 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
         : "{%s in %s}".formatted(unknownNodeNameElement, fieldLocation);
   }
 
-  boolean hierarchyMatchesAnyComparedTypes(DualValue dualValue) {
+  boolean hierarchyMatchesAnyComparedTypes(DualValue dualValue, Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare) {
     if (isFieldOfTypeToCompare(dualValue)) return true;
     // dualValue is not a type to compare but could be a child of one
     return fieldLocationsToCompareBecauseOfTypesToCompare.stream().anyMatch(dualValue.fieldLocation::hasParent);
   }
 
-  boolean matchesOrIsChildOfFieldMatchingAnyComparedTypes(DualValue dualValue) {
+  boolean matchesOrIsChildOfFieldMatchingAnyComparedTypes(DualValue dualValue,
+                                                          Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare) {
     return fieldLocationsToCompareBecauseOfTypesToCompare.stream().anyMatch(dualValue.fieldLocation::exactlyMatches);
   }
 
@@ -1167,7 +1453,50 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   boolean exactlyMatchesAnyComparedFields(DualValue dualValue) {
-    return comparedFields.stream().anyMatch(comparedField -> comparedField.exactlyMatches(dualValue.fieldLocation));
+    return fieldLocationRules().isComparedField(dualValue.fieldLocation.getPathToUseInRules());
+  }
+
+  private FieldLocationRules fieldLocationRules() {
+    // compiled once for all the fields compared until the rules change
+    FieldLocationRules rules = fieldLocationRules;
+    if (rules == null) {
+      rules = new FieldLocationRules(this);
+      fieldLocationRules = rules;
+    }
+    return rules;
+  }
+
+  private void fieldLocationRulesChanged() {
+    fieldLocationRules = null;
+  }
+
+  private void checkNotFrozen() {
+    checkState(!frozen, "This recursive comparison configuration is frozen and can't be modified, use unfrozen() to get a modifiable copy");
+  }
+
+  private static TypeComparators copyOf(TypeComparators typeComparators) {
+    TypeComparators copy = new TypeComparators();
+    typeComparators.comparatorByTypes().forEach(entry -> copy.put(entry.getKey(), entry.getValue()));
+    return copy;
+  }
+
+  private static FieldComparators copyOf(FieldComparators fieldComparators) {
+    FieldComparators copy = new FieldComparators();
+    fieldComparators.comparatorByFields().forEach(entry -> copy.registerComparator(entry.getKey(), entry.getValue()));
+    copy.comparatorByPatterns.addAll(fieldComparators.comparatorByPatterns);
+    return copy;
+  }
+
+  private static TypeMessages copyOf(TypeMessages typeMessages) {
+    TypeMessages copy = new TypeMessages();
+    typeMessages.messageByTypes().forEach(entry -> copy.put(entry.getKey(), entry.getValue()));
+    return copy;
+  }
+
+  private static FieldMessages copyOf(FieldMessages fieldMessages) {
+    FieldMessages copy = new FieldMessages();
+    fieldMessages.messageByFields().forEach(entry -> copy.registerMessage(entry.getKey(), entry.getValue()));
+    return copy;
   }
 
   /**
@@ -1188,6 +1517,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private boolean ignoreCollectionOrder;
     private String[] ignoredCollectionOrderInFields = {};
     private String[] ignoredCollectionOrderInFieldsMatchingRegexes = {};
+    private boolean matchCollectionElementsByFingerprint;
+    private int parallelism = 1;
+    private int maxDifferences = Integer.MAX_VALUE;
+    private Consumer<ComparisonDifference> differenceListener;
     private final TypeComparators typeComparators = defaultTypeComparators();
     private final FieldComparators fieldComparators = new FieldComparators();
     private final FieldMessages fieldMessages = new FieldMessages();
@@ -1381,6 +1714,66 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets whether to pair the elements of collections compared ignoring their order by using a structural fingerprint of the
+     * elements before comparing them recursively.
+     * <p>
+     * See {@link RecursiveComparisonAssert#matchingCollectionElementsByFingerprint()} for code examples.
+     *
+     * @param matchCollectionElementsByFingerprint whether to pair unordered collection elements by structural fingerprint.
+     * @return this builder.
+     */
+    public Builder withMatchCollectionElementsByFingerprint(boolean matchCollectionElementsByFingerprint) {
+      this.matchCollectionElementsByFingerprint = matchCollectionElementsByFingerprint;
+      return this;
+    }
+
+    /**
+     * Sets the number of threads used to compare independent sub graphs in parallel, that is the elements of ordered
+     * collections and arrays and the values of maps.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+     *
+     * @param parallelism the number of threads used to compare independent sub graphs.
+     * @return this builder.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of differences to report, the comparison stops once this number of differences have been
+     * found unless a {@link #withDifferenceListener(Consumer) difference listener} needs them all.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for code examples.
+     *
+     * @param maxDifferences the maximum number of differences to report.
+     * @return this builder.
+     * @throws IllegalArgumentException if maxDifferences is less than 1.
+     */
+    public Builder withMaxDifferences(int maxDifferences) {
+      checkArgument(maxDifferences > 0, "maxDifferences must be greater than 0 but was %s", maxDifferences);
+      this.maxDifferences = maxDifferences;
+      return this;
+    }
+
+    /**
+     * Sets the listener notified of each difference as soon as it is found, even the ones over maxDifferences.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withDifferenceListener(Consumer)} for code examples.
+     *
+     * @param differenceListener the listener notified of each difference found.
+     * @return this builder.
+     * @throws NullPointerException if the given listener is null.
+     */
+    public Builder withDifferenceListener(Consumer<ComparisonDifference> differenceListener) {
+      this.differenceListener = requireNonNull(differenceListener, "The difference listener must not be null");
+      return this;
+    }
+
     /**
      * Registers the given {@link Comparator} to compare the fields with the given type.
      * <p>
@@ -14,23 +14,28 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
+import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
 
 import java.lang.reflect.Array;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +44,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -46,10 +53,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.assertj.core.internal.DeepDifference;
 
@@ -72,7 +77,9 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String STRICT_TYPE_ERROR = "the fields are considered different since the comparison enforces strict type check and %s is not a subtype of %s";
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
-  private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // below this number of elements, comparing them in parallel costs more than it saves
+  private static final int MIN_ELEMENTS_TO_COMPARE_IN_PARALLEL = 16;
+  private static final Consumer<ComparisonDifference> NO_DIFFERENCE_LISTENER = difference -> {};
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -80,16 +87,54 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // dual values registered as visited in this comparison indexed by location decomposed path, used to find the visited
+    // parents of a difference by looking up sub paths (no need to build the parents FieldLocation)
+    private final Map<List<String>, DualValue> visitedDualValuesByLocation = new HashMap<>();
+    // set when already visited values whose differences were reported at their first visit location are found again, the
+    // differences are not reported twice but the compared values are not equal.
+    private boolean hasAlreadyReportedDifferences;
+    // pool comparing collection elements and map values in parallel, null if this comparison is sequential
+    private final ForkJoinPool forkJoinPool;
+    // when only knowing whether the compared values are equal matters, the comparison stops at the first difference found
+    // and differences are not described.
+    private final boolean stopAtFirstDifference;
+    // set when a difference was found in a comparison stopping at the first difference
+    private boolean hasUndescribedDifference;
+    // track field locations of fields of type to compare, needed to compare child nodes, for example if we want to
+    // compare Person type, we must compare Person fields too even though they are not of type Person.
+    // shared by the comparisons of a collection elements as the locations are relative to the compared root values.
+    private final Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare;
+    // notified of each difference as soon as it is found
+    private final Consumer<ComparisonDifference> differenceListener;
+    // the number of differences to keep, the next ones are only notified to the difference listener
+    private int maxDifferences;
+    // when no listener needs all the differences, the comparison stops once maxDifferences differences have been found
+    private boolean stopAtMaxDifferences;
+    // differences found by an element comparison forked by a comparison with a listener, the forking comparison notifies
+    // its listener of them when merging the elements comparisons as the listener must be called in the calling thread
+    private List<ComparisonDifference> differencesToNotify = Collections.emptyList();
 
     public ComparisonState(VisitedDualValues visitedDualValues,
                            RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+      this(visitedDualValues, new HashSet<>(), recursiveComparisonConfiguration, null, false, NO_DIFFERENCE_LISTENER);
+    }
+
+    public ComparisonState(VisitedDualValues visitedDualValues,
+                           Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare,
+                           RecursiveComparisonConfiguration recursiveComparisonConfiguration, ForkJoinPool forkJoinPool,
+                           boolean stopAtFirstDifference, Consumer<ComparisonDifference> differenceListener) {
       this.visitedDualValues = visitedDualValues;
+      this.fieldLocationsToCompareBecauseOfTypesToCompare = fieldLocationsToCompareBecauseOfTypesToCompare;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.forkJoinPool = forkJoinPool;
+      this.stopAtFirstDifference = stopAtFirstDifference;
+      this.differenceListener = differenceListener;
+      this.maxDifferences = recursiveComparisonConfiguration.getMaxDifferences();
     }
 
     void addDifference(DualValue dualValue) {
-      addDifference(dualValue, null);
+      addDifference(dualValue, (String) null);
     }
 
     void addDifference(DualValue dualValue, String description) {
@@ -102,22 +147,101 @@ public class RecursiveComparisonDifferenceCalculator {
         // reported on a field whose type is not in the compared types, we should ignore the difference unless it was
         // on a field from the set of compared fields.
         if (!recursiveComparisonConfiguration.exactlyMatchesAnyComparedFields(dualValue)
-            && !recursiveComparisonConfiguration.matchesOrIsChildOfFieldMatchingAnyComparedTypes(dualValue))
+            && !recursiveComparisonConfiguration.matchesOrIsChildOfFieldMatchingAnyComparedTypes(dualValue,
+                                                                                                 fieldLocationsToCompareBecauseOfTypesToCompare))
           // was not a field we had to compared
           return;
         // check if the value was meant to be ignored, if it is the case simply skip the difference
         if (recursiveComparisonConfiguration.shouldIgnore(dualValue)) return;
       }
 
+      if (!describesDifferences()) {
+        registerUndescribedDifference(dualValue);
+        return;
+      }
       String customErrorMessage = getCustomErrorMessage(dualValue);
       ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue, description, customErrorMessage);
-      differences.add(comparisonDifference);
-      // track the difference for the given dual values, in case we visit the same dual values again
-      visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+      if (reportDifference(comparisonDifference)) {
+        // track the difference for the given dual values, in case we visit the same dual values again
+        visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+      } else {
+        // the difference is not kept, only remember that the dual values are different
+        visitedDualValues.registerDiscardedComparisonDifference(dualValue);
+      }
+      registerDifferenceInVisitedParents(dualValue.fieldLocation);
+    }
+
+    // for descriptions expensive to build, they are only built when the differences are described
+    void addDifference(DualValue dualValue, Supplier<String> descriptionSupplier) {
+      addDifference(dualValue, describesDifferences() ? descriptionSupplier.get() : null);
     }
 
     void addKeyDifference(DualValue parentDualValue, Object actualKey, Object expectedKey) {
-      differences.add(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
+      if (!describesDifferences()) {
+        registerUndescribedDifference(parentDualValue);
+        return;
+      }
+      reportDifference(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
+      visitedDualValues.registerChildNodesDifference(parentDualValue);
+      registerDifferenceInVisitedParents(parentDualValue.fieldLocation);
+    }
+
+    // differences are not described when only knowing whether the values are equal matters or when they would be discarded
+    private boolean describesDifferences() {
+      return !stopAtFirstDifference && !hasReachedMaxDifferences();
+    }
+
+    private boolean hasReachedMaxDifferences() {
+      return stopAtMaxDifferences && differences.size() >= maxDifferences;
+    }
+
+    // notifies the listener of the difference and keeps it unless maxDifferences differences are already kept, returns
+    // whether the difference was kept
+    private boolean reportDifference(ComparisonDifference comparisonDifference) {
+      differenceListener.accept(comparisonDifference);
+      return keepDifference(comparisonDifference);
+    }
+
+    private boolean keepDifference(ComparisonDifference comparisonDifference) {
+      if (differences.size() >= maxDifferences) return false;
+      differences.add(comparisonDifference);
+      return true;
+    }
+
+    private void registerUndescribedDifference(DualValue dualValue) {
+      hasUndescribedDifference = true;
+      // the values visited again later in the comparison must be known as different
+      visitedDualValues.registerChildNodesDifference(dualValue);
+      registerDifferenceInVisitedParents(dualValue.fieldLocation);
+    }
+
+    void registerAlreadyReportedDifference(DualValue dualValue) {
+      hasAlreadyReportedDifferences = true;
+      registerDifferenceInVisitedParents(dualValue.fieldLocation);
+    }
+
+    void registerVisitedDualValue(DualValue dualValue) {
+      visitedDualValues.registerVisitedDualValue(dualValue);
+      visitedDualValuesByLocation.putIfAbsent(dualValue.fieldLocation.getDecomposedPath(), dualValue);
+    }
+
+    // a difference in a child node makes its visited parents different, we must remember it in case we visit them again
+    // (for example when looking for a match of an unordered collection element) otherwise they would be considered equal.
+    private void registerDifferenceInVisitedParents(FieldLocation fieldLocation) {
+      if (visitedDualValuesByLocation.isEmpty()) return;
+      List<String> path = fieldLocation.getDecomposedPath();
+      for (int parentPathSize = path.size() - 1; parentPathSize >= 0; parentPathSize--) {
+        DualValue parentDualValue = visitedDualValuesByLocation.get(path.subList(0, parentPathSize));
+        if (parentDualValue != null) visitedDualValues.registerChildNodesDifference(parentDualValue);
+      }
+    }
+
+    boolean hasDifferences() {
+      return !differences.isEmpty() || hasAlreadyReportedDifferences || hasUndescribedDifference;
+    }
+
+    boolean canStopComparing() {
+      return stopAtFirstDifference && hasDifferences() || hasReachedMaxDifferences();
     }
 
     public List<ComparisonDifference> getDifferences() {
@@ -126,7 +250,7 @@ public class RecursiveComparisonDifferenceCalculator {
     }
 
     public boolean hasDualValuesToCompare() {
-      return !dualValuesToCompare.isEmpty();
+      return !dualValuesToCompare.isEmpty() && !canStopComparing();
     }
 
     public DualValue pickDualValueToCompare() {
@@ -137,6 +261,40 @@ public class RecursiveComparisonDifferenceCalculator {
       dualValuesToCompare.addFirst(dualValue);
     }
 
+    private void registerElementsForComparison(DualValue containerDualValue, List<DualValue> elementDualValues) {
+      if (forkJoinPool != null && elementDualValues.size() >= MIN_ELEMENTS_TO_COMPARE_IN_PARALLEL) {
+        compareInParallel(containerDualValue, elementDualValues);
+      } else {
+        elementDualValues.forEach(this::registerForComparison);
+      }
+    }
+
+    // The elements are compared right away, each in its own comparison that can read (but not update) the dual values
+    // visited so far, this way the elements comparisons are independent and their differences don't depend on the order
+    // in which the elements were compared.
+    private void compareInParallel(DualValue containerDualValue, List<DualValue> elementDualValues) {
+      int elementsPerTask = Math.max(1, elementDualValues.size() / (forkJoinPool.getParallelism() * 4));
+      List<ComparisonState> elementComparisonStates = forkJoinPool.invoke(new ElementsComparison(elementDualValues, 0,
+                                                                                                 elementDualValues.size(),
+                                                                                                 elementsPerTask, this));
+      // sequentially, the elements registered last are compared first, merge their differences in the same order
+      boolean hasElementsDifferences = false;
+      for (int i = elementComparisonStates.size() - 1; i >= 0; i--) {
+        ComparisonState elementComparisonState = elementComparisonStates.get(i);
+        elementComparisonState.differencesToNotify.forEach(differenceListener);
+        elementComparisonState.differences.forEach(this::keepDifference);
+        // the rest of the comparison must know the values visited by the elements comparisons as if they were sequential
+        visitedDualValues.registerVisitedDualValuesOf(elementComparisonState.visitedDualValues);
+        hasAlreadyReportedDifferences |= elementComparisonState.hasAlreadyReportedDifferences;
+        hasUndescribedDifference |= elementComparisonState.hasUndescribedDifference;
+        hasElementsDifferences |= elementComparisonState.hasDifferences();
+      }
+      if (hasElementsDifferences) {
+        visitedDualValues.registerChildNodesDifference(containerDualValue);
+        registerDifferenceInVisitedParents(containerDualValue.fieldLocation);
+      }
+    }
+
     private void initDualValuesToCompare(Object actual, Object expected, FieldLocation nodeLocation) {
       // before anything are these values to be compared at all?
       DualValue dualValue = new DualValue(nodeLocation, actual, expected);
@@ -150,7 +308,8 @@ public class RecursiveComparisonDifferenceCalculator {
           recursiveComparisonConfiguration.checkComparedFieldsExist(actual);
         }
         // TODO should fail if actual and expected don't have the same fields (taking into account ignored/compared fields)
-        Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
+        Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration
+            .getActualChildrenNodeNamesToCompare(dualValue, fieldLocationsToCompareBecauseOfTypesToCompare);
         if (!actualChildrenNodeNamesToCompare.isEmpty()) {
           // fields to ignore are evaluated when adding their corresponding dualValues to dualValuesToCompare which filters
           // ignored fields according to recursiveComparisonConfiguration
@@ -229,40 +388,127 @@ public class RecursiveComparisonDifferenceCalculator {
    */
   public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    Consumer<ComparisonDifference> differenceListener = recursiveComparisonConfiguration.getDifferenceListener();
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration,
+                                differenceListener == null ? NO_DIFFERENCE_LISTENER : differenceListener);
+  }
+
+  /**
+   * Same as {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} but gives each difference to
+   * the given listener as soon as it is found (instead of the configured one if any), this allows to consume all the
+   * differences incrementally while only {@link RecursiveComparisonConfiguration#getMaxDifferences() maxDifferences} of
+   * them are kept in the returned list.
+   * <p>
+   * Without listener, the comparison stops as soon as {@code maxDifferences} differences have been found, with a listener
+   * the whole graph is compared to notify the listener of all the differences.
+   * <p>
+   * The listener is called in the thread calling this method, in the order the differences are found which is not the
+   * order of the returned differences.
+   *
+   * @param actual                           Object one to compare
+   * @param expected                         Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @param differenceListener               notified of each difference found
+   * @return the sorted list of the first {@code maxDifferences} differences found or an empty list if objects are equivalent.
+   */
+  public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                         RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                         Consumer<ComparisonDifference> differenceListener) {
+    requireNonNull(differenceListener, "The difference listener must not be null");
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
+      ComparisonDifference typeDifference = expectedAndActualTypeDifference(actual, expected);
+      differenceListener.accept(typeDifference);
+      return list(typeDifference);
+    }
+    ForkJoinPool forkJoinPool = recursiveComparisonConfiguration.comparesInParallel()
+        ? new ForkJoinPool(recursiveComparisonConfiguration.getParallelism())
+        : null;
+    try {
+      // the elements compared in parallel register the field locations of compared types concurrently
+      Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare = forkJoinPool != null
+          ? ConcurrentHashMap.newKeySet()
+          : new HashSet<>();
+      ComparisonState comparisonState = new ComparisonState(new VisitedDualValues(), fieldLocationsToCompareBecauseOfTypesToCompare,
+                                                            recursiveComparisonConfiguration, forkJoinPool, false,
+                                                            differenceListener);
+      // without listener, the differences over maxDifferences would be discarded, there is no need to look for them
+      comparisonState.stopAtMaxDifferences = differenceListener == NO_DIFFERENCE_LISTENER;
+      comparisonState.initDualValuesToCompare(actual, expected, rootFieldLocation());
+      return determineDifferences(comparisonState).getDifferences();
+    } finally {
+      if (forkJoinPool != null) forkJoinPool.shutdown();
+    }
+  }
+
+  /**
+   * Returns whether the given objects are equal according to the recursive comparison, this gives the same result as
+   * checking that {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} returns no differences
+   * but is cheaper as the comparison stops at the first difference found and does not describe it.
+   * <p>
+   * This is meant to be used when only the outcome of the comparison matters, for example in a {@code Comparator}.
+   * <p>
+   * The comparison is sequential whatever the configured parallelism as it usually stops before comparing all the nodes.
+   *
+   * @param actual                           Object one to compare
+   * @param expected                         Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return {@code true} if the objects are equal according to the recursive comparison, {@code false} otherwise.
+   */
+  public boolean areEqual(Object actual, Object expected, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
-      return list(expectedAndActualTypeDifference(actual, expected));
+      return false;
     }
-    return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration);
+    return !determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), new HashSet<>(),
+                                 recursiveComparisonConfiguration, true).hasDifferences();
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
-  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
-                                                                 VisitedDualValues visitedDualValues,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+  private static ComparisonState determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
+                                                      VisitedDualValues visitedDualValues,
+                                                      Set<FieldLocation> fieldLocationsToCompareBecauseOfTypesToCompare,
+                                                      RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                      boolean stopAtFirstDifference) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, fieldLocationsToCompareBecauseOfTypesToCompare,
+                                                          recursiveComparisonConfiguration, null, stopAtFirstDifference,
+                                                          NO_DIFFERENCE_LISTENER);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
+    return determineDifferences(comparisonState);
+  }
 
+  private static ComparisonState determineDifferences(ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
     while (comparisonState.hasDualValuesToCompare()) {
 
       final DualValue dualValue = comparisonState.pickDualValueToCompare();
-      if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
+      if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue,
+                                                                            comparisonState.fieldLocationsToCompareBecauseOfTypesToCompare)) {
         // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
         // only compare the Person type, we must compare the Person fields too even though they are not of type Person
-        recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
+        comparisonState.fieldLocationsToCompareBecauseOfTypesToCompare.add(dualValue.fieldLocation);
       }
 
       // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
       Optional<List<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue);
       if (comparisonDifferences.isPresent()) {
-        if (!comparisonDifferences.get().isEmpty()) {
+        if (!comparisonDifferences.get().isEmpty()
+            || comparisonState.visitedDualValues.hasDiscardedComparisonDifferences(dualValue)) {
           comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
+        } else if (comparisonState.visitedDualValues.hasChildNodesDifferences(dualValue)) {
+          // the differences have been reported where the values were first visited, no need to report them again but we
+          // must remember that the values are not equal.
+          comparisonState.registerAlreadyReportedDifference(dualValue);
         }
         continue;
       }
 
       // first time we evaluate this dual value, perform the usual recursive comparison from there
 
+      // the same instances are equal unless a custom comparator says otherwise, they are not tracked as visited either, had
+      // they been, a custom comparator registered for another location referencing the same instances would be skipped.
+      final boolean hasCustomComparator = recursiveComparisonConfiguration.hasCustomComparator(dualValue);
+      if (dualValue.actual == dualValue.expected && !hasCustomComparator) continue;
+
       // visited dual values are tracked to avoid cycle
       if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
         // only track dual values if their field location is a compared field or a child of one that could have cycles,
@@ -271,104 +517,89 @@ public class RecursiveComparisonDifferenceCalculator {
         // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
         if (recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation)
             && dualValue.hasPotentialCyclingValues()) {
-          comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
+          comparisonState.registerVisitedDualValue(dualValue);
         }
       } else if (dualValue.hasPotentialCyclingValues()) {
-        comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
+        comparisonState.registerVisitedDualValue(dualValue);
       }
 
       final Object actualFieldValue = dualValue.actual;
       final Object expectedFieldValue = dualValue.expected;
 
       // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (hasCustomComparator) {
         if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
         // since we used a custom comparator we don't need to inspect the nested fields any further
         continue;
       }
 
-      if (actualFieldValue == expectedFieldValue) continue;
-
       if (actualFieldValue == null || expectedFieldValue == null) {
         // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
         comparisonState.addDifference(dualValue);
         continue;
       }
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      if (dualValue.isActualAnEnum()) {
+      // the way to compare the values only depends on the expected value class, it is looked up rather than checked
+      NodeType expectedNodeType = NodeType.of(expectedFieldValue);
+      if (expectedNodeType.kind == NodeType.Kind.ENUM || dualValue.isActualAnEnum()) {
         compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
         continue;
       }
       // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnArray()) {
+      switch (expectedNodeType.kind) {
+      case ARRAY:
         compareArrays(dualValue, comparisonState);
         continue;
-      }
-
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
+      case ORDERED_COLLECTION:
+        // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+        // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+        if (!recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+          compareOrderedCollections(dualValue, comparisonState);
+        } else {
+          compareUnorderedIterables(dualValue, comparisonState);
+        }
         continue;
-      }
-
-      if (dualValue.isExpectedFieldAnIterable()) {
+      case ITERABLE:
         compareUnorderedIterables(dualValue, comparisonState);
         continue;
-      }
-
-      if (dualValue.isExpectedFieldAnOptional()) {
+      case OPTIONAL:
         compareOptional(dualValue, comparisonState);
         continue;
-      }
-
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
+      case SORTED_MAP:
+        // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
         compareSortedMap(dualValue, comparisonState);
         continue;
-      }
-
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
+      case MAP:
+        // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+        // temporary Map must be created, however the comparison still runs in O(N) time.
         compareUnorderedMap(dualValue, comparisonState);
         continue;
-      }
-
       // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
-      if (dualValue.isExpectedFieldAnAtomicBoolean()) {
+      case ATOMIC_BOOLEAN:
         compareAtomicBoolean(dualValue, comparisonState);
         continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicInteger()) {
+      case ATOMIC_INTEGER:
         compareAtomicInteger(dualValue, comparisonState);
         continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
+      case ATOMIC_INTEGER_ARRAY:
         compareAtomicIntegerArray(dualValue, comparisonState);
         continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLong()) {
+      case ATOMIC_LONG:
         compareAtomicLong(dualValue, comparisonState);
         continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLongArray()) {
+      case ATOMIC_LONG_ARRAY:
         compareAtomicLongArray(dualValue, comparisonState);
         continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReference()) {
+      case ATOMIC_REFERENCE:
         compareAtomicReference(dualValue, comparisonState);
         continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
+      case ATOMIC_REFERENCE_ARRAY:
         compareAtomicReferenceArray(dualValue, comparisonState);
         continue;
+      default:
+        // compared with equals or field by field below
+        break;
       }
 
       boolean shouldHonorJavaTypeEquals = shouldHonorJavaTypeEquals(dualValue);
@@ -390,7 +621,8 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
+      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration
+          .getActualChildrenNodeNamesToCompare(dualValue, comparisonState.fieldLocationsToCompareBecauseOfTypesToCompare);
       Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
       // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
 
@@ -421,7 +653,7 @@ public class RecursiveComparisonDifferenceCalculator {
         }
       }
     }
-    return comparisonState.getDifferences();
+    return comparisonState;
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -499,14 +731,89 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, arrays are not equal as they don't have the same size
       return;
     }
+    if (actualArrayLength > 0 && isPrimitiveArrayOfSameType(dualValue)) {
+      comparePrimitiveArrays(dualValue, actualArrayLength, comparisonState);
+      return;
+    }
     // register each pair of actual/expected elements for recursive comparison
     FieldLocation arrayFieldLocation = dualValue.fieldLocation;
+    List<DualValue> elementDualValues = new ArrayList<>(actualArrayLength);
     for (int i = 0; i < actualArrayLength; i++) {
       Object actualElement = Array.get(dualValue.actual, i);
       Object expectedElement = Array.get(dualValue.expected, i);
       FieldLocation elementFieldLocation = arrayFieldLocation.field("[%d]".formatted(i));
-      comparisonState.registerForComparison(new DualValue(elementFieldLocation, actualElement, expectedElement));
+      elementDualValues.add(new DualValue(elementFieldLocation, actualElement, expectedElement));
+    }
+    comparisonState.registerElementsForComparison(dualValue, elementDualValues);
+  }
+
+  private static boolean isPrimitiveArrayOfSameType(DualValue dualValue) {
+    Class<?> actualArrayClass = dualValue.actual.getClass();
+    return actualArrayClass == dualValue.expected.getClass() && actualArrayClass.getComponentType().isPrimitive();
+  }
+
+  // Only the elements that differ are registered for comparison, this avoids boxing each element and creating a DualValue
+  // for it, which matters for large numeric arrays. The registered elements go through the usual comparison, honoring
+  // comparators and ignored fields. Elements compared with a comparator are expected to be equal when their values are.
+  private static void comparePrimitiveArrays(DualValue dualValue, int length, ComparisonState comparisonState) {
+    Object actualArray = dualValue.actual;
+    Object expectedArray = dualValue.expected;
+    FieldLocation arrayFieldLocation = dualValue.fieldLocation;
+    // the comparison rules don't depend on the element index, what applies to the first element applies to all of them
+    DualValue firstElementDualValue = new DualValue(arrayFieldLocation.field("[0]"), Array.get(actualArray, 0),
+                                                    Array.get(expectedArray, 0));
+    boolean comparedWithComparator = comparisonState.recursiveComparisonConfiguration.hasCustomComparator(firstElementDualValue);
+    List<DualValue> differentElementDualValues = new ArrayList<>();
+    int index = indexOfFirstDifferentElement(actualArray, expectedArray, 0, length, comparedWithComparator);
+    while (index >= 0) {
+      FieldLocation elementFieldLocation = arrayFieldLocation.field("[%d]".formatted(index));
+      differentElementDualValues.add(new DualValue(elementFieldLocation, Array.get(actualArray, index),
+                                                   Array.get(expectedArray, index)));
+      index = indexOfFirstDifferentElement(actualArray, expectedArray, index + 1, length, comparedWithComparator);
+    }
+    comparisonState.registerElementsForComparison(dualValue, differentElementDualValues);
+  }
+
+  // returns the index of the first different element in [from, to[ or -1 if there are none. Elements are compared like
+  // their boxed type equals does unless floating point elements are compared with a comparator, == is used then so that
+  // NaN elements and 0.0 vs -0.0 are left to the comparator to decide.
+  private static int indexOfFirstDifferentElement(Object actualArray, Object expectedArray, int from, int to,
+                                                  boolean comparedWithComparator) {
+    int mismatch;
+    if (actualArray instanceof int[]) {
+      mismatch = Arrays.mismatch((int[]) actualArray, from, to, (int[]) expectedArray, from, to);
+    } else if (actualArray instanceof long[]) {
+      mismatch = Arrays.mismatch((long[]) actualArray, from, to, (long[]) expectedArray, from, to);
+    } else if (actualArray instanceof double[]) {
+      if (comparedWithComparator) return indexOfFirstDifferentElement((double[]) actualArray, (double[]) expectedArray, from, to);
+      mismatch = Arrays.mismatch((double[]) actualArray, from, to, (double[]) expectedArray, from, to);
+    } else if (actualArray instanceof float[]) {
+      if (comparedWithComparator) return indexOfFirstDifferentElement((float[]) actualArray, (float[]) expectedArray, from, to);
+      mismatch = Arrays.mismatch((float[]) actualArray, from, to, (float[]) expectedArray, from, to);
+    } else if (actualArray instanceof byte[]) {
+      mismatch = Arrays.mismatch((byte[]) actualArray, from, to, (byte[]) expectedArray, from, to);
+    } else if (actualArray instanceof short[]) {
+      mismatch = Arrays.mismatch((short[]) actualArray, from, to, (short[]) expectedArray, from, to);
+    } else if (actualArray instanceof char[]) {
+      mismatch = Arrays.mismatch((char[]) actualArray, from, to, (char[]) expectedArray, from, to);
+    } else {
+      mismatch = Arrays.mismatch((boolean[]) actualArray, from, to, (boolean[]) expectedArray, from, to);
+    }
+    return mismatch < 0 ? -1 : from + mismatch;
+  }
+
+  private static int indexOfFirstDifferentElement(double[] actualArray, double[] expectedArray, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (actualArray[i] != expectedArray[i]) return i;
+    }
+    return -1;
+  }
+
+  private static int indexOfFirstDifferentElement(float[] actualArray, float[] expectedArray, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (actualArray[i] != expectedArray[i]) return i;
     }
+    return -1;
   }
 
   /*
@@ -530,13 +837,26 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register a pair of elements with same index for later comparison as we compare elements in order
     Iterator<?> expectedIterator = expectedCollection.iterator();
+    List<DualValue> elementDualValues = new ArrayList<>();
     int i = 0;
     for (Object element : actualCollection) {
       FieldLocation elementFieldLocation = dualValue.fieldLocation.field("[%d]".formatted(i));
-      DualValue elementDualValue = new DualValue(elementFieldLocation, element, expectedIterator.next());
-      comparisonState.registerForComparison(elementDualValue);
+      registerIfNeedsComparison(new DualValue(elementFieldLocation, element, expectedIterator.next()), elementDualValues,
+                                comparisonState);
       i++;
     }
+    comparisonState.registerElementsForComparison(dualValue, elementDualValues);
+  }
+
+  // The same element instances are equal unless a custom comparator says otherwise (see determineDifferences), they are
+  // not even registered for comparison, large containers mostly sharing their elements with the expected ones only
+  // register the elements that need to be compared.
+  private static void registerIfNeedsComparison(DualValue elementDualValue, List<DualValue> elementDualValues,
+                                                ComparisonState comparisonState) {
+    if (elementDualValue.actual == elementDualValue.expected
+        && !comparisonState.recursiveComparisonConfiguration.hasCustomComparator(elementDualValue))
+      return;
+    elementDualValues.add(elementDualValue);
   }
 
   private static String differentTypeErrorMessage(DualValue dualValue, String actualTypeDescription) {
@@ -560,60 +880,76 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, iterables are not equal as they don't have the same size
       return;
     }
-    List<Object> expectedElementsNotFound = list();
+    List<Object> expectedElementsNotFound = comparisonState.recursiveComparisonConfiguration.isMatchingCollectionElementsByFingerprint()
+        ? new FingerprintElementsMatching(actual, expected, dualValue, comparisonState).expectedElementsNotMatched()
+        : expectedElementsNotMatchedByHashCode(actual, expected, dualValue, comparisonState);
+    if (!expectedElementsNotFound.isEmpty()) {
+      comparisonState.addDifference(dualValue,
+                                    () -> "The following expected elements were not matched in the actual %s:%n  %s".formatted(
+                                                                                                                             actual.getClass()
+                                                                                                                                   .getSimpleName(),
+                                                                                                                             comparisonState.toStringOf(expectedElementsNotFound)));
+      // TODO could improve the error by listing the actual elements not in expected but that would need
+      // another double loop inverting actual and expected to find the actual elements not matched in expected
+    }
+  }
+
+  private static List<Object> expectedElementsNotMatchedByHashCode(Iterable<?> actual, Iterable<?> expected,
+                                                                  DualValue dualValue, ComparisonState comparisonState) {
+    // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
+    // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
+    // the first actual elements that could match the expected one.
+    // The actual elements are grouped once, an actual element matching an expected one is removed from its group as it can't
+    // be used to match other expected elements.
+    Map<Integer, List<Object>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
+    List<Object> expectedElementsNotMatchedByHashCode = list();
     for (Object expectedElement : expected) {
+      List<Object> actualHashBucket = actualElementsGroupedByHashCode.get(Objects.hashCode(expectedElement));
+      boolean expectedElementMatched = actualHashBucket != null
+                                       && searchExpectedElementIn(actualHashBucket, expectedElement, dualValue, comparisonState);
+      if (!expectedElementMatched) expectedElementsNotMatchedByHashCode.add(expectedElement);
+    }
+    // It may be that the remaining expected elements match actual elements in a different hash bucket, to account for this,
+    // we check the actual elements left for matches. This may result in O(n^2) complexity in the worst case.
+    List<Object> expectedElementsNotFound = list();
+    for (Object expectedElement : expectedElementsNotMatchedByHashCode) {
       boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
-      }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
+      for (List<Object> actualElements : actualElementsGroupedByHashCode.values()) {
+        expectedElementMatched = searchExpectedElementIn(actualElements, expectedElement, dualValue, comparisonState);
+        if (expectedElementMatched) break;
+      }
       if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
-          // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
-          if (expectedElementMatched) break;
-        }
-        if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
+        expectedElementsNotFound.add(expectedElement);
+        // one expected element not found is enough to know the iterables are different
+        if (comparisonState.stopAtFirstDifference) break;
       }
     }
-    if (!expectedElementsNotFound.isEmpty()) {
-      String unmatched = "The following expected elements were not matched in the actual %s:%n  %s".formatted(
-                                                                                                              actual.getClass()
-                                                                                                                    .getSimpleName(),
-                                                                                                              comparisonState.toStringOf(expectedElementsNotFound));
-      comparisonState.addDifference(dualValue, unmatched);
-      // TODO could improve the error by listing the actual elements not in expected but that would need
-      // another double loop inverting actual and expected to find the actual elements not matched in expected
-    }
+    return expectedElementsNotFound;
   }
 
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
+  private static Map<Integer, List<Object>> actualElementsGroupedByHashCode(Iterable<?> actual) {
+    // LinkedHashMap to look for matches in the actual elements order
+    Map<Integer, List<Object>> actualElementsGroupedByHashCode = new LinkedHashMap<>();
+    for (Object actualElement : actual) {
+      actualElementsGroupedByHashCode.computeIfAbsent(Objects.hashCode(actualElement), hashCode -> new ArrayList<>())
+                                     .add(actualElement);
+    }
+    return actualElementsGroupedByHashCode;
   }
 
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
+  private static boolean searchExpectedElementIn(List<Object> actualElements, Object expectedElement,
                                                  DualValue dualValue, ComparisonState comparisonState) {
+    Iterator<Object> actualIterator = actualElements.iterator();
     while (actualIterator.hasNext()) {
       Object actualElement = actualIterator.next();
       // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement,
+      ComparisonState elementComparisonState = determineDifferences(actualElement, expectedElement,
                                                                     dualValue.fieldLocation,
                                                                     comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
+                                                                    comparisonState.fieldLocationsToCompareBecauseOfTypesToCompare,
+                                                                    comparisonState.recursiveComparisonConfiguration,
+                                                                    comparisonState.stopAtFirstDifference);
+      if (!elementComparisonState.hasDifferences()) {
         // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
         actualIterator.remove();
         return true;
@@ -622,30 +958,228 @@ public class RecursiveComparisonDifferenceCalculator {
     return false;
   }
 
+  /**
+   * Matches actual and expected elements of unordered iterables in two steps:
+   * <ol>
+   * <li>expected elements are compared to the actual elements having the same structural fingerprint</li>
+   * <li>the expected elements left are matched by looking for an augmenting path in the bipartite graph of matching elements,
+   * this reassigns already matched actual elements when needed so that the matching is maximal (and not greedy).</li>
+   * </ol>
+   * Element comparisons are cached as the second step can compare the same elements several times.
+   */
+  private static class FingerprintElementsMatching {
+
+    private static final int UNMATCHED = -1;
+
+    private final List<Object> actualElements;
+    private final List<Object> expectedElements;
+    private final DualValue dualValue;
+    private final ComparisonState comparisonState;
+    // the index of the expected element matched by each actual element and vice versa
+    private final int[] expectedIndexMatchedByActual;
+    private final int[] actualIndexMatchedByExpected;
+    private final Map<Long, Boolean> elementsComparisons = new HashMap<>();
+
+    FingerprintElementsMatching(Iterable<?> actual, Iterable<?> expected, DualValue dualValue,
+                                ComparisonState comparisonState) {
+      this.actualElements = newArrayList(actual);
+      this.expectedElements = newArrayList(expected);
+      this.dualValue = dualValue;
+      this.comparisonState = comparisonState;
+      this.expectedIndexMatchedByActual = new int[actualElements.size()];
+      this.actualIndexMatchedByExpected = new int[expectedElements.size()];
+      Arrays.fill(expectedIndexMatchedByActual, UNMATCHED);
+      Arrays.fill(actualIndexMatchedByExpected, UNMATCHED);
+    }
+
+    List<Object> expectedElementsNotMatched() {
+      matchElementsHavingTheSameFingerprint();
+      List<Object> expectedElementsNotMatched = list();
+      for (int expectedIndex = 0; expectedIndex < expectedElements.size(); expectedIndex++) {
+        if (actualIndexMatchedByExpected[expectedIndex] == UNMATCHED && !findAugmentingPathFrom(expectedIndex)) {
+          expectedElementsNotMatched.add(expectedElements.get(expectedIndex));
+          if (comparisonState.stopAtFirstDifference) break;
+        }
+      }
+      return expectedElementsNotMatched;
+    }
+
+    private void matchElementsHavingTheSameFingerprint() {
+      StructuralFingerprint structuralFingerprint = new StructuralFingerprint(comparisonState.recursiveComparisonConfiguration);
+      // LinkedHashMap to look for matches in the actual elements order
+      Map<Integer, List<Integer>> actualIndexesGroupedByFingerprint = new LinkedHashMap<>();
+      for (int actualIndex = 0; actualIndex < actualElements.size(); actualIndex++) {
+        int fingerprint = structuralFingerprint.of(actualElements.get(actualIndex), dualValue.fieldLocation);
+        actualIndexesGroupedByFingerprint.computeIfAbsent(fingerprint, key -> new ArrayList<>()).add(actualIndex);
+      }
+      for (int expectedIndex = 0; expectedIndex < expectedElements.size(); expectedIndex++) {
+        int fingerprint = structuralFingerprint.of(expectedElements.get(expectedIndex), dualValue.fieldLocation);
+        List<Integer> actualIndexes = actualIndexesGroupedByFingerprint.get(fingerprint);
+        if (actualIndexes == null) continue;
+        Iterator<Integer> actualIndexIterator = actualIndexes.iterator();
+        while (actualIndexIterator.hasNext()) {
+          int actualIndex = actualIndexIterator.next();
+          if (elementsMatch(expectedIndex, actualIndex)) {
+            match(expectedIndex, actualIndex);
+            actualIndexIterator.remove();
+            break;
+          }
+        }
+      }
+    }
+
+    // breadth first search of an unmatched actual element reachable by alternating between matching and matched elements
+    private boolean findAugmentingPathFrom(int unmatchedExpectedIndex) {
+      int[] expectedIndexReachingActual = new int[actualElements.size()];
+      Arrays.fill(expectedIndexReachingActual, UNMATCHED);
+      Deque<Integer> expectedIndexesToExplore = new ArrayDeque<>();
+      expectedIndexesToExplore.add(unmatchedExpectedIndex);
+      while (!expectedIndexesToExplore.isEmpty()) {
+        int expectedIndex = expectedIndexesToExplore.poll();
+        for (int actualIndex = 0; actualIndex < actualElements.size(); actualIndex++) {
+          if (expectedIndexReachingActual[actualIndex] != UNMATCHED || !elementsMatch(expectedIndex, actualIndex)) continue;
+          expectedIndexReachingActual[actualIndex] = expectedIndex;
+          if (expectedIndexMatchedByActual[actualIndex] == UNMATCHED) {
+            augmentMatchingAlongPathEndingWith(actualIndex, expectedIndexReachingActual);
+            return true;
+          }
+          expectedIndexesToExplore.add(expectedIndexMatchedByActual[actualIndex]);
+        }
+      }
+      return false;
+    }
+
+    private void augmentMatchingAlongPathEndingWith(int actualIndex, int[] expectedIndexReachingActual) {
+      // walk the path back to the unmatched expected element it started from, each expected element on the path gets
+      // matched to the actual element it reached, releasing the actual element it was previously matched to.
+      while (actualIndex != UNMATCHED) {
+        int expectedIndex = expectedIndexReachingActual[actualIndex];
+        int previouslyMatchedActualIndex = actualIndexMatchedByExpected[expectedIndex];
+        match(expectedIndex, actualIndex);
+        actualIndex = previouslyMatchedActualIndex;
+      }
+    }
+
+    private void match(int expectedIndex, int actualIndex) {
+      actualIndexMatchedByExpected[expectedIndex] = actualIndex;
+      expectedIndexMatchedByActual[actualIndex] = expectedIndex;
+    }
+
+    private boolean elementsMatch(int expectedIndex, int actualIndex) {
+      Long elementsKey = (long) expectedIndex * actualElements.size() + actualIndex;
+      Boolean elementsMatch = elementsComparisons.get(elementsKey);
+      if (elementsMatch == null) {
+        // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+        ComparisonState elementComparisonState = determineDifferences(actualElements.get(actualIndex),
+                                                                      expectedElements.get(expectedIndex),
+                                                                      dualValue.fieldLocation,
+                                                                      comparisonState.visitedDualValues,
+                                                                      comparisonState.fieldLocationsToCompareBecauseOfTypesToCompare,
+                                                                      comparisonState.recursiveComparisonConfiguration,
+                                                                      comparisonState.stopAtFirstDifference);
+        elementsMatch = !elementComparisonState.hasDifferences();
+        elementsComparisons.put(elementsKey, elementsMatch);
+      }
+      return elementsMatch;
+    }
+  }
+
+  /**
+   * Compares a range of collection elements (or map values) each in its own comparison, splitting the range to compare its
+   * halves in parallel when it has too many elements.
+   */
+  private static class ElementsComparison extends RecursiveTask<List<ComparisonState>> {
+
+    private final List<DualValue> elementDualValues;
+    private final int from;
+    private final int to;
+    private final int elementsPerTask;
+    private final ComparisonState forkingComparisonState;
+
+    ElementsComparison(List<DualValue> elementDualValues, int from, int to, int elementsPerTask,
+                       ComparisonState forkingComparisonState) {
+      this.elementDualValues = elementDualValues;
+      this.from = from;
+      this.to = to;
+      this.elementsPerTask = elementsPerTask;
+      this.forkingComparisonState = forkingComparisonState;
+    }
+
+    @Override
+    protected List<ComparisonState> compute() {
+      if (to - from <= elementsPerTask) return compareElements();
+      int middle = (from + to) >>> 1;
+      ElementsComparison firstHalfComparison = new ElementsComparison(elementDualValues, from, middle, elementsPerTask,
+                                                                      forkingComparisonState);
+      ElementsComparison secondHalfComparison = new ElementsComparison(elementDualValues, middle, to, elementsPerTask,
+                                                                       forkingComparisonState);
+      firstHalfComparison.fork();
+      List<ComparisonState> elementComparisonStates = new ArrayList<>(to - from);
+      List<ComparisonState> secondHalfComparisonStates = secondHalfComparison.compute();
+      elementComparisonStates.addAll(firstHalfComparison.join());
+      elementComparisonStates.addAll(secondHalfComparisonStates);
+      return elementComparisonStates;
+    }
+
+    private List<ComparisonState> compareElements() {
+      List<ComparisonState> elementComparisonStates = new ArrayList<>(to - from);
+      // the forking comparison keeps the differences of the elements registered last first (as when comparing them
+      // sequentially), the elements are compared in that order to stop once their differences would not be kept
+      int differencesToKeep = forkingComparisonState.maxDifferences - forkingComparisonState.differences.size();
+      for (int i = to - 1; i >= from && differencesToKeep > 0; i--) {
+        ComparisonState elementComparisonState = elementComparisonState(differencesToKeep);
+        elementComparisonState.registerForComparison(elementDualValues.get(i));
+        elementComparisonStates.add(determineDifferences(elementComparisonState));
+        if (forkingComparisonState.stopAtMaxDifferences) differencesToKeep -= elementComparisonState.differences.size();
+      }
+      Collections.reverse(elementComparisonStates);
+      return elementComparisonStates;
+    }
+
+    private ComparisonState elementComparisonState(int maxDifferences) {
+      // the element is compared sequentially, it only sees the dual values visited before the fork and its own
+      VisitedDualValues visitedDualValues = new VisitedDualValues(forkingComparisonState.visitedDualValues);
+      // the forking comparison listener must be notified in its own thread, the element differences are buffered instead
+      List<ComparisonDifference> differencesToNotify = new ArrayList<>();
+      Consumer<ComparisonDifference> differenceListener = forkingComparisonState.differenceListener == NO_DIFFERENCE_LISTENER
+          ? NO_DIFFERENCE_LISTENER
+          : differencesToNotify::add;
+      ComparisonState elementComparisonState = new ComparisonState(visitedDualValues,
+                                                                   forkingComparisonState.fieldLocationsToCompareBecauseOfTypesToCompare,
+                                                                   forkingComparisonState.recursiveComparisonConfiguration,
+                                                                   null, forkingComparisonState.stopAtFirstDifference,
+                                                                   differenceListener);
+      elementComparisonState.differencesToNotify = differencesToNotify;
+      // the element differences are merged by the forking comparison, it won't keep more than the ones it has room for
+      elementComparisonState.maxDifferences = maxDifferences;
+      elementComparisonState.stopAtMaxDifferences = forkingComparisonState.stopAtMaxDifferences;
+      return elementComparisonState;
+    }
+  }
+
   // TODO replace by ordered map
-  private static <K, V> void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
+  private static void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
     if (!dualValue.isActualFieldASortedMap()) {
       // at the moment we only compare iterable with iterables (but we might allow arrays too)
       comparisonState.addDifference(dualValue, differentTypeErrorMessage(dualValue, "a sorted map"));
       return;
     }
 
-    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                              comparisonState.recursiveComparisonConfiguration);
-
-    @SuppressWarnings("unchecked")
-    Map<K, V> expectedMap = (Map<K, V>) filterIgnoredFields((Map<?, ?>) dualValue.expected,
-                                                            dualValue.fieldLocation,
-                                                            comparisonState.recursiveComparisonConfiguration);
-
-    if (actualMap.size() != expectedMap.size()) {
-      comparisonState.addDifference(dualValue,
-                                    DIFFERENT_SIZE_ERROR.formatted("sorted maps", actualMap.size(), expectedMap.size()));
+    Iterable<? extends Entry<?, ?>> actualEntries = entriesToCompare((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
+                                                                     comparisonState.recursiveComparisonConfiguration);
+    Iterable<? extends Entry<?, ?>> expectedEntries = entriesToCompare((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
+                                                                       comparisonState.recursiveComparisonConfiguration);
+    int actualSize = sizeOf(actualEntries);
+    int expectedSize = sizeOf(expectedEntries);
+    if (actualSize != expectedSize) {
+      comparisonState.addDifference(dualValue, DIFFERENT_SIZE_ERROR.formatted("sorted maps", actualSize, expectedSize));
       // no need to inspect entries, maps are not equal as they don't have the same size
       return;
     }
-    Iterator<Entry<K, V>> expectedMapEntries = expectedMap.entrySet().iterator();
-    for (Entry<?, ?> actualEntry : actualMap.entrySet()) {
+    // both maps are walked once side by side, entries are paired by position as both maps are sorted
+    Iterator<? extends Entry<?, ?>> expectedMapEntries = expectedEntries.iterator();
+    List<DualValue> valueDualValues = new ArrayList<>();
+    for (Entry<?, ?> actualEntry : actualEntries) {
       Entry<?, ?> expectedEntry = expectedMapEntries.next();
       // check keys are matched before comparing values as keys represents a field
       if (!java.util.Objects.equals(actualEntry.getKey(), expectedEntry.getKey())) {
@@ -654,9 +1188,11 @@ public class RecursiveComparisonDifferenceCalculator {
       } else {
         // as the key/field match we can simply compare field/key values
         FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, actualEntry.getKey());
-        comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()));
+        registerIfNeedsComparison(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()),
+                                  valueDualValues, comparisonState);
       }
     }
+    comparisonState.registerElementsForComparison(dualValue, valueDualValues);
   }
 
   private static void compareUnorderedMap(DualValue dualValue, ComparisonState comparisonState) {
@@ -665,55 +1201,50 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
 
-    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                              comparisonState.recursiveComparisonConfiguration);
-    Map<?, ?> expectedMap = filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
-                                                comparisonState.recursiveComparisonConfiguration);
-
-    if (actualMap.size() != expectedMap.size()) {
-      comparisonState.addDifference(dualValue, DIFFERENT_SIZE_ERROR.formatted("maps", actualMap.size(), expectedMap.size()));
+    Map<?, ?> actualMap = (Map<?, ?>) dualValue.actual;
+    Iterable<? extends Entry<?, ?>> actualEntries = entriesToCompare(actualMap, dualValue.fieldLocation,
+                                                                     comparisonState.recursiveComparisonConfiguration);
+    Iterable<? extends Entry<?, ?>> expectedEntries = entriesToCompare((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
+                                                                       comparisonState.recursiveComparisonConfiguration);
+    int actualSize = sizeOf(actualEntries);
+    int expectedSize = sizeOf(expectedEntries);
+    if (actualSize != expectedSize) {
+      comparisonState.addDifference(dualValue, DIFFERENT_SIZE_ERROR.formatted("maps", actualSize, expectedSize));
       // no need to inspect entries, maps are not equal as they don't have the same size
       return;
     }
-    // actual and expected maps same size but do they have the same keys?
-    Set<?> expectedKeysNotFound = new LinkedHashSet<>(expectedMap.keySet());
-    expectedKeysNotFound.removeAll(actualMap.keySet());
+    // actual and expected maps same size but do they have the same keys? an expected key can't be ignored in actual as
+    // entries are ignored by key.
+    Set<Object> expectedKeysNotFound = new LinkedHashSet<>();
+    List<DualValue> valueDualValues = new ArrayList<>();
+    for (Entry<?, ?> expectedEntry : expectedEntries) {
+      Object key = expectedEntry.getKey();
+      if (!actualMap.containsKey(key)) {
+        expectedKeysNotFound.add(key);
+      } else if (expectedKeysNotFound.isEmpty()) {
+        // actual and expected maps have the same keys so far, we need now to compare their values
+        FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, key);
+        registerIfNeedsComparison(new DualValue(keyFieldLocation, actualMap.get(key), expectedEntry.getValue()),
+                                  valueDualValues, comparisonState);
+      }
+    }
     if (!expectedKeysNotFound.isEmpty()) {
-      comparisonState.addDifference(dualValue, "The following keys were not found in the actual map value:%n  %s".formatted(
-                                                                                                                            comparisonState.toStringOf(expectedKeysNotFound)));
+      comparisonState.addDifference(dualValue, () -> "The following keys were not found in the actual map value:%n  %s".formatted(
+                                                                                                                                  comparisonState.toStringOf(expectedKeysNotFound)));
       return;
     }
-    // actual and expected maps have the same keys, we need now to compare their values
-    for (Object key : expectedMap.keySet()) {
-      FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, key);
-      comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualMap.get(key), expectedMap.get(key)));
-    }
-  }
-
-  private static Map<?, ?> filterIgnoredFields(Map<?, ?> map, FieldLocation fieldLocation,
-                                               RecursiveComparisonConfiguration configuration) {
-    Set<String> ignoredFields = configuration.getIgnoredFields();
-    List<Pattern> ignoredFieldsRegexes = configuration.getIgnoredFieldsRegexes();
-    if (ignoredFields.isEmpty() && ignoredFieldsRegexes.isEmpty()) {
-      return map;
-    }
-    return map.entrySet().stream()
-              .filter(e -> !configuration.matchesAnIgnoredField(fieldLocation.field(e.getKey().toString())))
-              .filter(e -> !configuration.matchesAnIgnoredFieldRegex(fieldLocation.field(e.getKey().toString())))
-              .collect(toMap(Entry::getKey, Entry::getValue));
+    comparisonState.registerElementsForComparison(dualValue, valueDualValues);
   }
 
-  // workaround for https://bugs.openjdk.org/browse/JDK-8148463
-  private static <T, K, U> Collector<T, ?, Map<K, U>> toMap(Function<? super T, ? extends K> keyMapper,
-                                                            Function<? super T, ? extends U> valueMapper) {
-    @SuppressWarnings("unchecked")
-    U none = (U) new Object();
-    Collector<T, ?, Map<K, U>> downstream = Collectors.toMap(keyMapper, valueMapper.andThen(v -> v == null ? none : v));
-    Function<Map<K, U>, Map<K, U>> finisher = map -> {
-      map.replaceAll((k, v) -> v == none ? null : v);
-      return map;
-    };
-    return Collectors.collectingAndThen(downstream, finisher);
+  // map entries are ignored like fields named after their key, they are skipped lazily when iterating the map rather than
+  // filtered out in a copy of the map, which is not even needed when no ignore rules can apply to the map entries.
+  private static <K, V> Iterable<Entry<K, V>> entriesToCompare(Map<K, V> map, FieldLocation mapFieldLocation,
+                                                               RecursiveComparisonConfiguration configuration) {
+    if (!configuration.someChildrenFieldsMayBeIgnored(mapFieldLocation)) return map.entrySet();
+    return () -> map.entrySet().stream()
+                    .filter(entry -> !configuration.shouldIgnoreFieldBasedOnFieldLocation(keyFieldLocation(mapFieldLocation,
+                                                                                                           entry.getKey())))
+                    .iterator();
   }
 
   private static FieldLocation keyFieldLocation(FieldLocation parentFieldLocation, Object key) {
@@ -876,30 +1407,14 @@ public class RecursiveComparisonDifferenceCalculator {
   }
 
   /**
-   * Determine if the passed in class has a non-Object.equals() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
-   * execution performance.
+   * Determine if the passed in class has a non-Object.equals() method. The result is computed once per class.
    *
    * @param c Class to check.
    * @return true, if the passed in Class has a .equals() method somewhere
    * between itself and just below Object in it's inheritance.
    */
   static boolean hasOverriddenEquals(Class<?> c) {
-    if (customEquals.containsKey(c)) {
-      return customEquals.get(c);
-    }
-
-    Class<?> origClass = c;
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("equals", Object.class);
-        customEquals.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customEquals.put(origClass, false);
-    return false;
+    return NodeType.ofClass(c).hasOverriddenEquals;
   }
 
   @SuppressWarnings({ "rawtypes" })
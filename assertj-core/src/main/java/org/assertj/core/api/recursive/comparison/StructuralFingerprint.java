@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.util.Arrays.isArray;
+import static org.assertj.core.util.IterableUtil.sizeOf;
+
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Computes a cheap structural fingerprint of a value as seen by the recursive comparison, it is used to pair the elements
+ * of unordered collections before comparing them recursively.
+ * <p>
+ * The fingerprint only looks at the first levels of the value, it honors ignored fields and ignores the values compared with
+ * custom comparators since they can consider equal values that are structurally different. It is a best effort heuristic:
+ * two values considered equal by the recursive comparison should have the same fingerprint, if they don't, the recursive
+ * comparison still finds the match but not as fast.
+ */
+final class StructuralFingerprint {
+
+  // how deep we look into a value to compute its fingerprint, looking deeper is more precise but more expensive
+  private static final int MAX_DEPTH = 2;
+  // used for values we can't reason about, e.g. values compared with a custom comparator
+  private static final int OPAQUE_VALUE = 1;
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  StructuralFingerprint(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+  }
+
+  int of(Object value, FieldLocation fieldLocation) {
+    // when only some types are compared, the fields to compare depend on the whole graph, we can't compute a partial fingerprint
+    if (!recursiveComparisonConfiguration.getComparedTypes().isEmpty()) return OPAQUE_VALUE;
+    return fingerprintOf(value, fieldLocation, 0);
+  }
+
+  private int fingerprintOf(Object value, FieldLocation fieldLocation, int depth) {
+    if (value == null) return 0;
+    DualValue dualValue = new DualValue(fieldLocation, value, value);
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) return OPAQUE_VALUE;
+    // enums are compared by name (and can be compared to strings having the same hash code)
+    if (dualValue.isActualAnEnum()) return ((Enum<?>) value).name().hashCode();
+    // containers fingerprint is their size, looking at their elements would be too expensive
+    if (dualValue.isActualFieldAnIterable()) return 31 * sizeOf((Iterable<?>) value) + 1;
+    if (isArray(value)) return 31 * Array.getLength(value) + 2;
+    if (dualValue.isActualFieldAMap()) return 31 * ((Map<?, ?>) value).size() + 3;
+    if (dualValue.isActualFieldAnOptional()) return ((Optional<?>) value).isPresent() ? 5 : 4;
+    if (dualValue.isActualJavaType()) return javaTypeFingerprintOf(value);
+    if (depth == MAX_DEPTH) return OPAQUE_VALUE;
+    int fingerprint = 0;
+    for (String childNodeName : recursiveComparisonConfiguration.getChildrenNodeNamesOf(value)) {
+      FieldLocation childFieldLocation = fieldLocation.field(childNodeName);
+      Object childNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, value);
+      if (recursiveComparisonConfiguration.shouldIgnore(new DualValue(childFieldLocation, childNodeValue, childNodeValue))) continue;
+      // the children nodes order is not guaranteed, combine their fingerprint in an order independent way
+      fingerprint += 31 * childNodeName.hashCode() ^ fingerprintOf(childNodeValue, childFieldLocation, depth + 1);
+    }
+    return fingerprint;
+  }
+
+  private static int javaTypeFingerprintOf(Object value) {
+    // java types are compared with equals, only trust the hash code of immutable value types like String or Integer
+    String packageName = value.getClass().getPackageName();
+    boolean isValueType = packageName.equals("java.lang") || packageName.equals("java.math") || packageName.equals("java.time");
+    return isValueType ? value.hashCode() : OPAQUE_VALUE;
+  }
+
+}
@@ -12,41 +12,88 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // visited dual values are indexed by their actual/expected references (ignoring the location) to be able to find whether
+  // a dual value has already been visited in constant time, which matters when comparing graphs with lots of nodes.
+  private final Map<VisitedValues, VisitedDualValue> dualValues;
+  // dual values visited before this comparison was forked from another one, read only as they are shared by forked comparisons
+  private final VisitedDualValues visitedBeforeFork;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(null);
+  }
+
+  VisitedDualValues(VisitedDualValues visitedBeforeFork) {
+    this.dualValues = new HashMap<>();
+    this.visitedBeforeFork = visitedBeforeFork;
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    // keep the first registration, dual values with the same values but a different location share their differences
+    this.dualValues.putIfAbsent(new VisitedValues(dualValue), new VisitedDualValue(dualValue));
+  }
+
+  void registerVisitedDualValuesOf(VisitedDualValues forkedVisitedDualValues) {
+    // keep the first registration like registerVisitedDualValue does
+    forkedVisitedDualValues.dualValues.forEach(this.dualValues::putIfAbsent);
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // register difference on dual values agnostic of location, to take care of values visited several times
+    VisitedDualValue visitedDualValue = this.dualValues.get(new VisitedValues(dualValue));
+    if (visitedDualValue != null) visitedDualValue.comparisonDifferences.add(comparisonDifference);
+  }
+
+  // the differences over maxDifferences are not kept, only the fact that the dual values are different is
+  void registerDiscardedComparisonDifference(DualValue dualValue) {
+    VisitedDualValue visitedDualValue = this.dualValues.get(new VisitedValues(dualValue));
+    if (visitedDualValue != null) visitedDualValue.hasDiscardedComparisonDifferences = true;
+  }
+
+  void registerChildNodesDifference(DualValue dualValue) {
+    VisitedDualValue visitedDualValue = this.dualValues.get(new VisitedValues(dualValue));
+    if (visitedDualValue != null) visitedDualValue.hasChildNodesDifferences = true;
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    // the lookup key ignores the location to get already visited dual values with different location
+    return Optional.ofNullable(visitedDualValueOf(new VisitedValues(dualValue)))
+                   .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+  }
+
+  boolean hasDiscardedComparisonDifferences(DualValue dualValue) {
+    VisitedDualValue visitedDualValue = visitedDualValueOf(new VisitedValues(dualValue));
+    return visitedDualValue != null && visitedDualValue.hasDiscardedComparisonDifferences;
+  }
+
+  boolean hasChildNodesDifferences(DualValue dualValue) {
+    VisitedDualValue visitedDualValue = visitedDualValueOf(new VisitedValues(dualValue));
+    return visitedDualValue != null && visitedDualValue.hasChildNodesDifferences;
+  }
+
+  private VisitedDualValue visitedDualValueOf(VisitedValues visitedValues) {
+    VisitedDualValue visitedDualValue = this.dualValues.get(visitedValues);
+    if (visitedDualValue == null && visitedBeforeFork != null) return visitedBeforeFork.visitedDualValueOf(visitedValues);
+    return visitedDualValue;
   }
 
   private static class VisitedDualValue {
     DualValue dualValue;
     List<ComparisonDifference> comparisonDifferences;
+    // set when differences of the visited values were found but not kept
+    boolean hasDiscardedComparisonDifferences;
+    // differences found in the children nodes are reported at their own location, this flag tracks that the visited values
+    // are not equal nonetheless.
+    boolean hasChildNodesDifferences;
 
     VisitedDualValue(DualValue dualValue) {
       this.dualValue = dualValue;
@@ -55,7 +102,32 @@ class VisitedDualValues {
 
     @Override
     public String toString() {
-      return "VisitedDualValue[dualValue=%s, comparisonDifferences=%s]".formatted(this.dualValue, this.comparisonDifferences);
+      return "VisitedDualValue[dualValue=%s, comparisonDifferences=%s, hasChildNodesDifferences=%s]".formatted(this.dualValue,
+                                                                                                               this.comparisonDifferences,
+                                                                                                               this.hasChildNodesDifferences);
+    }
+  }
+
+  // identity based key, two keys are equal if they reference the same actual and expected values (see DualValue#sameValues).
+  private static final class VisitedValues {
+    private final Object actual;
+    private final Object expected;
+
+    VisitedValues(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof VisitedValues)) return false;
+      VisitedValues that = (VisitedValues) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * identityHashCode(actual) + identityHashCode(expected);
     }
   }
 }
@@ -46,27 +46,52 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                                                     List<ComparisonDifference> differences,
                                                                                     RecursiveComparisonConfiguration recursiveComparisonConfiguration,
                                                                                     Representation representation) {
+    return shouldBeEqualByComparingFieldByFieldRecursively(actual, other, differences, differences.size(),
+                                                           recursiveComparisonConfiguration, representation);
+  }
+
+  // differencesCount can be greater than the number of differences when only some of them were kept
+  public static ErrorMessageFactory shouldBeEqualByComparingFieldByFieldRecursively(Object actual, Object other,
+                                                                                    List<ComparisonDifference> differences,
+                                                                                    int differencesCount,
+                                                                                    RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                                    Representation representation) {
     String differencesDescription = join(differences.stream()
                                                     .map(difference -> difference.multiLineDescription(representation))
                                                     .collect(toList())).with("%n%n".formatted());
+    int notDescribedDifferencesCount = differencesCount - differences.size();
+    if (notDescribedDifferencesCount > 0) {
+      differencesDescription += "%n%nand %s more difference%s".formatted(notDescribedDifferencesCount,
+                                                                       notDescribedDifferencesCount == 1 ? "" : "s");
+    } else if (comparisonStoppedAtMaxDifferences(differences, recursiveComparisonConfiguration)) {
+      differencesDescription += "%n%nthe comparison stopped after finding %s differences, there may be more"
+          .formatted(differences.size());
+    }
     String recursiveComparisonConfigurationDescription = recursiveComparisonConfiguration.multiLineDescription(representation);
-    String differencesCount = differences.size() == 1 ? "difference:%n" : "%s differences:%n";
+    String differencesCountDescription = differencesCount == 1 ? "difference:%n" : "%s differences:%n";
     // @format:off
     return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
                                                                "Expecting actual:%n" +
                                                                "  %s%n" +
                                                                "to be equal to:%n" +
                                                                "  %s%n" +
-                                                               "when recursively comparing field by field, but found the following " + differencesCount +
+                                                               "when recursively comparing field by field, but found the following " + differencesCountDescription +
                                                                "%n" +
                                                                escapePercent(differencesDescription) + "%n" +
                                                                "%n"+
                                                                "The recursive comparison was performed with this configuration:%n" +
                                                                recursiveComparisonConfigurationDescription, // don't use %s to avoid AssertJ formatting String with ""
-                                                               actual, other, differences.size());
+                                                               actual, other, differencesCount);
     // @format:on
   }
 
+  // without difference listener, the comparison does not look for more differences than the ones it reports
+  private static boolean comparisonStoppedAtMaxDifferences(List<ComparisonDifference> differences,
+                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return recursiveComparisonConfiguration.getDifferenceListener() == null
+           && differences.size() >= recursiveComparisonConfiguration.getMaxDifferences();
+  }
+
   private ShouldBeEqualByComparingFieldByFieldRecursively(String message, Object... arguments) {
     super(message, arguments);
   }
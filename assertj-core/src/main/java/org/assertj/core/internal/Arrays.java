@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.reflect.Array.getLength;
+import static java.util.Collections.newSetFromMap;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ActualIsNotEmpty.actualIsNotEmpty;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
@@ -81,12 +82,13 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -248,15 +250,8 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
-      }
-    }
+    List<Object> notExpected = comparisonStrategy.iterableUnexpectedElements(asList(actual), asList(values));
+    List<Object> notFound = comparisonStrategy.iterableMissingElements(asList(actual), asList(values));
 
     if (!notExpected.isEmpty() || !notFound.isEmpty()) {
       throw failures.failure(info, shouldContainOnly(actual, values,
@@ -305,12 +300,9 @@ public class Arrays {
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
+    List<Object> actualElements = notExpected;
+    notExpected = comparisonStrategy.iterableUnmatchedActualElements(actualElements, notFound);
+    notFound = comparisonStrategy.iterableUnmatchedExpectedElements(actualElements, notFound);
 
     if (notExpected.isEmpty() && notFound.isEmpty()) return;
 
@@ -339,14 +331,6 @@ public class Arrays {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Collection<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  private void iterableRemoves(Collection<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
@@ -462,11 +446,13 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    List<Object> valuesAsList = asList(values);
+    // the values are identified by instance as primitive values are boxed once in valuesAsList
+    Set<Object> notFound = newSetFromMap(new IdentityHashMap<>());
+    notFound.addAll(comparisonStrategy.iterableMissingElements(asList(array), valuesAsList));
     Set<Object> found = new LinkedHashSet<>();
-    int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    for (Object value : valuesAsList) {
+      if (!notFound.contains(value)) found.add(value);
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -535,14 +521,7 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = newArrayList();
-    int sizeOfActual = sizeOf(actual);
-    for (int i = 0; i < sizeOfActual; i++) {
-      Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
-        extra.add(actualElement);
-      }
-    }
+    List<Object> extra = comparisonStrategy.iterableUnexpectedElements(asList(actual), values);
     if (!extra.isEmpty()) {
       throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
     }
@@ -634,9 +613,10 @@ public class Arrays {
     assertIsArray(info, actual);
     assertIsArray(info, values);
 
-    List<Object> valuesToSearchFor = asList(values);
+    // index the values once rather than comparing each actual element to all of them
+    Predicate<Object> valuesContain = comparisonStrategy.iterableIndex(asList(values));
     for (Object element : asList(actual)) {
-      if (iterableContains(valuesToSearchFor, element)) return;
+      if (valuesContain.test(element)) return;
     }
     throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
 
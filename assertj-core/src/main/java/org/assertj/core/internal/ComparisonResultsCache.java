@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.System.identityHashCode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Remembers whether pairs of objects are equal, pairs are identified by the identity of their objects and not by their
+ * {@code equals} method.
+ * <p>
+ * This is meant to avoid comparing the same objects several times in the same assertion with expensive comparisons like the
+ * recursive comparison, it must not outlive the assertion as the compared objects could be modified afterward.
+ * <p>
+ * The number of cached results is bounded, once the limit is reached, new pairs are compared without caching their result.
+ */
+public final class ComparisonResultsCache {
+
+  static final int MAX_CACHED_RESULTS = 10_000;
+
+  private final Map<ComparedPair, Boolean> results = new HashMap<>();
+
+  /**
+   * Returns the cached result of the comparison of the given objects if any, otherwise compares them with the given
+   * comparison and caches the result.
+   *
+   * @param actual the first object to compare
+   * @param other the second object to compare
+   * @param comparison the comparison to use if the result of the pair comparison was not cached
+   * @return whether the given objects are equal according to the given comparison.
+   */
+  public synchronized boolean areEqual(Object actual, Object other, BiPredicate<Object, Object> comparison) {
+    ComparedPair comparedPair = new ComparedPair(actual, other);
+    Boolean areEqual = results.get(comparedPair);
+    if (areEqual == null) {
+      areEqual = comparison.test(actual, other);
+      if (results.size() < MAX_CACHED_RESULTS) results.put(comparedPair, areEqual);
+    }
+    return areEqual;
+  }
+
+  int size() {
+    return results.size();
+  }
+
+  // pairs are ordered as comparisons are not necessarily symmetrical
+  private static final class ComparedPair {
+    private final Object actual;
+    private final Object other;
+
+    ComparedPair(Object actual, Object other) {
+      this.actual = actual;
+      this.other = other;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof ComparedPair)) return false;
+      ComparedPair that = (ComparedPair) obj;
+      return actual == that.actual && other == that.other;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * identityHashCode(actual) + identityHashCode(other);
+    }
+  }
+}
@@ -15,7 +15,6 @@ package org.assertj.core.internal;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy.NOT_EQUAL;
 
-import java.util.Comparator;
 import java.util.Objects;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
@@ -24,17 +23,26 @@ import org.assertj.core.util.introspection.IntrospectionError;
 /**
  * Compares objects field/property by field/property recursively based on the given {@link RecursiveComparisonConfiguration} allowing fine tuning of the comparison.
  */
-public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<Object> {
+public class ConfigurableRecursiveFieldByFieldComparator implements NonOrderingComparator<Object> {
 
   private RecursiveComparisonConfiguration configuration;
   private RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator;
+  // null if the comparison results are not cached
+  private ComparisonResultsCache comparisonResultsCache;
 
   // for testing
   ConfigurableRecursiveFieldByFieldComparator(RecursiveComparisonConfiguration configuration,
                                               RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator) {
+    this(configuration, recursiveComparisonDifferenceCalculator, null);
+  }
+
+  private ConfigurableRecursiveFieldByFieldComparator(RecursiveComparisonConfiguration configuration,
+                                                      RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator,
+                                                      ComparisonResultsCache comparisonResultsCache) {
     requireNonNull(configuration, "RecursiveComparisonConfiguration must not be null");
     this.configuration = configuration;
     this.recursiveComparisonDifferenceCalculator = recursiveComparisonDifferenceCalculator;
+    this.comparisonResultsCache = comparisonResultsCache;
   }
 
   public ConfigurableRecursiveFieldByFieldComparator(RecursiveComparisonConfiguration configuration) {
@@ -45,12 +53,26 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
   public int compare(Object actual, Object other) {
     if (actual == null && other == null) return 0;
     if (actual == null || other == null) return NOT_EQUAL;
+    if (comparisonResultsCache != null) return comparisonResultsCache.areEqual(actual, other, this::areEqual) ? 0 : NOT_EQUAL;
     return areEqual(actual, other) ? 0 : NOT_EQUAL;
   }
 
+  /**
+   * Returns a new comparator with the same configuration that compares each pair of objects at most once, the results
+   * being cached by the identity of the compared objects (up to a bounded number of pairs).
+   * <p>
+   * The returned comparator is meant to be used for a single assertion, see {@link ComparisonResultsCache}.
+   *
+   * @return a new comparator caching its comparison results.
+   */
+  public ConfigurableRecursiveFieldByFieldComparator cachingComparisonResults() {
+    return new ConfigurableRecursiveFieldByFieldComparator(configuration, recursiveComparisonDifferenceCalculator,
+                                                           new ComparisonResultsCache());
+  }
+
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return recursiveComparisonDifferenceCalculator.determineDifferences(actual, other, configuration).isEmpty();
+      return recursiveComparisonDifferenceCalculator.areEqual(actual, other, configuration);
     } catch (@SuppressWarnings("unused") IntrospectionError e) {
       return false;
     }
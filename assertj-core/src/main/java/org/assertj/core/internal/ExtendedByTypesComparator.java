@@ -21,7 +21,7 @@ import java.util.Objects;
  * Compares objects using passed or standard default comparator extended with comparators by type.
  * @since 2.9.0 / 3.9.0
  */
-public class ExtendedByTypesComparator implements Comparator<Object> {
+public class ExtendedByTypesComparator implements NonOrderingComparator<Object> {
 
   private final Comparator<Object> comparator;
   private final TypeComparators comparatorsByType;
@@ -12,13 +12,16 @@
  */
 package org.assertj.core.internal;
 
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.api.recursive.comparison.RecursiveComparator;
 
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 // immutable
@@ -33,7 +36,13 @@ class IterableDiff<T> {
   List<T> missing;
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
-    this.comparisonStrategy = comparisonStrategy;
+    this.comparisonStrategy = cachingRecursiveComparisonResults(comparisonStrategy);
+    if (comparisonStrategy instanceof StandardComparisonStrategy) {
+      // the standard comparison strategy counts hashable elements instead of searching them in each other
+      this.unexpected = unmodifiableList(uncheckedCast(comparisonStrategy.iterableUnmatchedActualElements(actual, expected)));
+      this.missing = unmodifiableList(uncheckedCast(comparisonStrategy.iterableUnmatchedExpectedElements(actual, expected)));
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -48,6 +57,30 @@ class IterableDiff<T> {
     return diff(actual, expected, StandardComparisonStrategy.instance());
   }
 
+  // the same actual and expected elements are compared when looking for unexpected elements and again when looking for
+  // missing ones, this is costly with recursive comparators so their results are cached for the duration of the diff.
+  // Only exact classes are rebuilt with a cache, subclasses may override the comparison and must be used as they are.
+  private static ComparisonStrategy cachingRecursiveComparisonResults(ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy.getClass() != ComparatorBasedComparisonStrategy.class) return comparisonStrategy;
+    ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy = (ComparatorBasedComparisonStrategy) comparisonStrategy;
+    Comparator<?> comparator = comparatorBasedComparisonStrategy.getComparator();
+    String comparatorDescription = comparatorBasedComparisonStrategy.getComparatorDescription();
+    if (comparator.getClass() == RecursiveComparator.class) {
+      RecursiveComparator recursiveComparator = (RecursiveComparator) comparator;
+      return new ComparatorBasedComparisonStrategy(recursiveComparator.cachingComparisonResults(), comparatorDescription);
+    }
+    if (comparator.getClass() == ConfigurableRecursiveFieldByFieldComparator.class) {
+      ConfigurableRecursiveFieldByFieldComparator fieldByFieldComparator = (ConfigurableRecursiveFieldByFieldComparator) comparator;
+      return new ComparatorBasedComparisonStrategy(fieldByFieldComparator.cachingComparisonResults(), comparatorDescription);
+    }
+    return comparisonStrategy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> uncheckedCast(List<Object> elements) {
+    return (List<T>) elements;
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.newSetFromMap;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
@@ -91,6 +92,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -369,14 +371,6 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  private void iterablesRemove(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   /**
    * Asserts that the given {@code Iterable} contains only the given values and nothing else, in any order.
    *
@@ -397,19 +391,10 @@ public class Iterables {
     // if both actual and values are empty, then assertion passes.
     if (actualAsList.isEmpty() && expectedValues.length == 0) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
-      }
-    }
+    // unexpected = actual - expectedValues
+    List<Object> unexpectedValues = comparisonStrategy.iterableUnexpectedElements(actualAsList, asList(expectedValues));
+    // missing = expectedValues - actual
+    List<Object> missingValues = comparisonStrategy.iterableMissingElements(actualAsList, asList(expectedValues));
 
     if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
       throw failures.failure(info, shouldContainOnly(actualAsList, expectedValues,
@@ -623,8 +608,7 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    List<Object> extra = comparisonStrategy.iterableUnexpectedElements(actual, values);
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
@@ -681,9 +665,11 @@ public class Iterables {
   public void assertDoesNotContain(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
+    Set<Object> notFound = newSetFromMap(new IdentityHashMap<>());
+    notFound.addAll(comparisonStrategy.iterableMissingElements(actual, asList(values)));
     Set<Object> found = new LinkedHashSet<>();
     for (Object o : values) {
-      if (iterableContains(actual, o)) found.add(o);
+      if (!notFound.contains(o)) found.add(o);
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
@@ -1383,9 +1369,10 @@ public class Iterables {
     if (commonCheckThatIterableAssertionSucceeds(info, failures, actual, values))
       return;
 
-    Iterable<Object> valuesToSearchFor = newArrayList(values);
+    // index the values once rather than comparing each actual element to all of them
+    Predicate<Object> valuesContain = comparisonStrategy.iterableIndex(asList(values));
     for (Object element : actual) {
-      if (iterableContains(valuesToSearchFor, element)) return;
+      if (valuesContain.test(element)) return;
     }
     throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
   }
@@ -1396,12 +1383,9 @@ public class Iterables {
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
+    List<Object> actualElements = notExpected;
+    notExpected = comparisonStrategy.iterableUnmatchedActualElements(actualElements, notFound);
+    notFound = comparisonStrategy.iterableUnmatchedExpectedElements(actualElements, notFound);
 
     if (notExpected.isEmpty() && notFound.isEmpty()) return;
 
@@ -0,0 +1,29 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Comparator} that only tells whether two objects are equal, or close enough, and does not define an order, for
+ * example comparators returning zero for equal objects and the same non-zero value otherwise, or comparators using a
+ * tolerance so that equality is not transitive.
+ * <p>
+ * Elements are not sorted with these comparators to speed up the iterable assertions, as the comparisons spent sorting
+ * would not allow to find equal elements by binary search.
+ *
+ * @param <T> the type of objects that may be compared by this comparator
+ */
+@FunctionalInterface
+public interface NonOrderingComparator<T> extends Comparator<T> {
+}
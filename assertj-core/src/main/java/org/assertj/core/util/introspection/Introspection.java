@@ -57,7 +57,7 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
+    Method getter = findGetter(propertyName, target.getClass());
     if (getter == null) {
       throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
     }
@@ -79,6 +79,24 @@ public final class Introspection {
     return getter;
   }
 
+  /**
+   * Returns the public getter {@link Method} for a property matching the given name in the given class, it is looked up
+   * like {@link #getPropertyGetter(String, Object)} does but is not invoked.
+   *
+   * @param propertyName the given property name.
+   * @param clazz        the class to look the getter in.
+   * @return the public getter {@code Method} for a property matching the given name, or {@code null} if there is none.
+   * @throws NullPointerException     if the given property name is {@code null}.
+   * @throws IllegalArgumentException if the given property name is empty.
+   * @throws NullPointerException     if the given class is {@code null}.
+   */
+  public static Method findPublicPropertyGetter(String propertyName, Class<?> clazz) {
+    checkNotNullOrEmpty(propertyName);
+    requireNonNull(clazz);
+    Method getter = findGetter(propertyName, clazz);
+    return getter != null && isPublic(getter.getModifiers()) ? getter : null;
+  }
+
   public static void setExtractBareNamePropertyMethods(boolean bareNamePropertyMethods) {
     ConfigurationProvider.loadRegisteredConfiguration();
     Introspection.bareNamePropertyMethods = bareNamePropertyMethods;
@@ -95,18 +113,18 @@ public final class Introspection {
     return message.formatted(property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  private static Method findGetter(String propertyName, Class<?> clazz) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, clazz);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods || target instanceof Record) {
+    if (bareNamePropertyMethods || Record.class.isAssignableFrom(clazz)) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, clazz);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, clazz);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -114,8 +132,8 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> clazz) {
+    final MethodKey methodKey = new MethodKey(name, clazz);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.FieldLocationRules.MAX_CACHED_DECISIONS;
+
+import org.junit.jupiter.api.Test;
+
+class FieldLocationRulesTest {
+
+  @Test
+  void should_bound_the_cached_decisions_when_meeting_many_paths() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withIgnoredFields("map.ignored")
+                                                                                     .withIgnoredCollectionOrderInFields("list")
+                                                                                     .build();
+    FieldLocationRules fieldLocationRules = new FieldLocationRules(configuration);
+    // WHEN
+    // like the paths of the entries of big maps compared with a configuration shared by many assertions
+    for (int i = 0; i < 3 * MAX_CACHED_DECISIONS; i++) {
+      String mapKeyPath = "map.key" + i;
+      fieldLocationRules.isIgnored(mapKeyPath);
+      fieldLocationRules.mayHaveIgnoredChildrenFields(mapKeyPath);
+      fieldLocationRules.matchesComparedField(mapKeyPath);
+      fieldLocationRules.shouldIgnoreCollectionOrder(mapKeyPath);
+      fieldLocationRules.shouldIgnoreOverriddenEquals(mapKeyPath);
+      fieldLocationRules.getComparatorForField(mapKeyPath);
+    }
+    // THEN
+    then(fieldLocationRules.cachedDecisionsCount()).isLessThanOrEqualTo(7 * MAX_CACHED_DECISIONS);
+    then(fieldLocationRules.isIgnored("map.ignored.value")).isTrue();
+    then(fieldLocationRules.isIgnored("map.key0")).isFalse();
+    then(fieldLocationRules.shouldIgnoreCollectionOrder("list")).isTrue();
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.recursive.comparison.NodeType.Kind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NodeType")
+class NodeTypeTest {
+
+  @Test
+  void should_classify_values_by_their_class() {
+    then(NodeType.of(Color.RED).kind).isEqualTo(Kind.ENUM);
+    then(NodeType.of(new int[0]).kind).isEqualTo(Kind.ARRAY);
+    then(NodeType.of(list("a")).kind).isEqualTo(Kind.ORDERED_COLLECTION);
+    then(NodeType.of(new HashSet<>()).kind).isEqualTo(Kind.ITERABLE);
+    then(NodeType.of(Optional.empty()).kind).isEqualTo(Kind.OPTIONAL);
+    then(NodeType.of(new TreeMap<>()).kind).isEqualTo(Kind.SORTED_MAP);
+    then(NodeType.of(new AtomicLong()).kind).isEqualTo(Kind.ATOMIC_LONG);
+    then(NodeType.of(new Person()).kind).isEqualTo(Kind.OBJECT);
+  }
+
+  @Test
+  void should_not_classify_paths_as_iterables() {
+    // GIVEN
+    Path path = Paths.get("/tmp/foo.txt");
+    // WHEN
+    NodeType nodeType = NodeType.of(path);
+    // THEN
+    then(nodeType.kind).isEqualTo(Kind.OBJECT);
+    then(nodeType.isIterable).isFalse();
+    then(nodeType.isContainer).isTrue();
+  }
+
+  @Test
+  void should_describe_the_class_of_values() {
+    // WHEN
+    NodeType personNodeType = NodeType.of(new Person());
+    NodeType stringNodeType = NodeType.of("Jack");
+    // THEN
+    then(personNodeType.isJavaType).isFalse();
+    then(personNodeType.isPotentialCyclingValue).isTrue();
+    then(personNodeType.hasOverriddenEquals).isTrue();
+    then(stringNodeType.isJavaType).isTrue();
+    then(stringNodeType.isPotentialCyclingValue).isFalse();
+  }
+
+  @Test
+  void should_compute_the_node_type_once_per_class() {
+    then(NodeType.of(new Person())).isSameAs(NodeType.of(new Person()));
+  }
+
+  @Test
+  void should_describe_null_values() {
+    // WHEN
+    NodeType nodeType = NodeType.of(null);
+    // THEN
+    then(nodeType.kind).isEqualTo(Kind.OBJECT);
+    then(nodeType.isEnum).isFalse();
+    then(nodeType.isJavaType).isFalse();
+    then(nodeType.isContainer).isFalse();
+    then(nodeType.isPotentialCyclingValue).isFalse();
+  }
+
+  private enum Color {
+    RED
+  }
+
+  private static class Person {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Person;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
+
+}
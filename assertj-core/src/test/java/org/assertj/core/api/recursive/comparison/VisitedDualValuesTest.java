@@ -64,4 +64,72 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_dual_values_with_same_values_but_different_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("neighbour"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValuesOtherLocation = new DualValue(list("neighbour", "neighbour"), actual, expected);
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(sameValuesOtherLocation);
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+    BDDAssertions.then(optionalComparisonDifferences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_not_match_dual_values_with_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    visitedDualValues.registerVisitedDualValue(new DualValue(list(""), new String("abc"), "abc"));
+    DualValue dualValue = new DualValue(list(""), new String("abc"), "abc");
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
+
+  @Test
+  void should_track_discarded_differences_without_keeping_them() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list("neighbour"), new Object(), new Object());
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    // WHEN
+    visitedDualValues.registerDiscardedComparisonDifference(dualValue);
+    // THEN
+    then(visitedDualValues.hasDiscardedComparisonDifferences(dualValue)).isTrue();
+    BDDAssertions.then(visitedDualValues.registeredComparisonDifferencesOf(dualValue).get()).isEmpty();
+  }
+
+  @Test
+  void should_track_child_nodes_differences() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list("neighbour"), new Object(), new Object());
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    // WHEN
+    visitedDualValues.registerChildNodesDifference(dualValue);
+    // THEN
+    then(visitedDualValues.hasChildNodesDifferences(dualValue)).isTrue();
+    BDDAssertions.then(visitedDualValues.registeredComparisonDifferencesOf(dualValue).get()).isEmpty();
+  }
+
+  @Test
+  void should_not_have_child_nodes_differences_by_default() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list("neighbour"), new Object(), new Object());
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    // WHEN
+    boolean hasChildNodesDifferences = visitedDualValues.hasChildNodesDifferences(dualValue);
+    // THEN
+    then(hasChildNodesDifferences).isFalse();
+  }
 }
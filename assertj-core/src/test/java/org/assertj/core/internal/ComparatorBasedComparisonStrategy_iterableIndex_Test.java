@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComparatorBasedComparisonStrategy#iterableIndex(Iterable)}.
+ */
+class ComparatorBasedComparisonStrategy_iterableIndex_Test extends AbstractTest_ComparatorBasedComparisonStrategy {
+
+  @Test
+  void should_tell_whether_iterable_contains_values_according_to_given_comparator() {
+    List<?> list = newArrayList("Sam", "Merry", null, "Frodo");
+    Predicate<Object> index = caseInsensitiveComparisonStrategy.iterableIndex(list);
+    assertThat(index.test("frodo")).isTrue();
+    assertThat(index.test("MERRY")).isTrue();
+    assertThat(index.test(null)).isTrue();
+    assertThat(index.test("Sauron")).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_iterable_contains_values_with_a_comparator_not_defining_an_order() {
+    Comparator<String> equalityOnlyComparator = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    ComparatorBasedComparisonStrategy equalityOnlyComparisonStrategy = new ComparatorBasedComparisonStrategy(equalityOnlyComparator);
+    Predicate<Object> index = equalityOnlyComparisonStrategy.iterableIndex(newArrayList("Sam", "Merry", "Frodo", "Pippin"));
+    assertThat(index.test("pippin")).isTrue();
+    assertThat(index.test("sam")).isTrue();
+    assertThat(index.test("Bilbo")).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_iterable_contains_values_with_a_comparator_defining_an_order() {
+    Predicate<Object> index = new ComparatorBasedComparisonStrategy(String.CASE_INSENSITIVE_ORDER).iterableIndex(newArrayList("Sam", "Merry", null, "Frodo"));
+    assertThat(index.test("frodo")).isTrue();
+    assertThat(index.test("MERRY")).isTrue();
+    assertThat(index.test(null)).isTrue();
+    assertThat(index.test("Sauron")).isFalse();
+  }
+
+  @Test
+  void should_tell_iterable_does_not_contain_values_if_iterable_is_null() {
+    assertThat(caseInsensitiveComparisonStrategy.iterableIndex(null).test("Sauron")).isFalse();
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComparatorBasedComparisonStrategy#iterableUnexpectedElements(Iterable, Iterable)}.
+ */
+class ComparatorBasedComparisonStrategy_iterableUnexpectedElements_Test extends AbstractTest_ComparatorBasedComparisonStrategy {
+
+  @Test
+  void should_return_actual_elements_not_equal_to_any_expected_element_according_to_given_comparator() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", null, "Merry", "Sam", "Pippin");
+    List<String> expected = newArrayList("SAM", "merry", "Bilbo", null);
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnexpectedElements(hobbits, expected)).containsExactly("Frodo",
+                                                                                                               "Pippin");
+  }
+
+  @Test
+  void should_return_no_elements_if_all_actual_elements_are_expected_according_to_given_comparator() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", "Merry", "Sam");
+    List<String> expected = newArrayList("SAM", "frodo", "merry");
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnexpectedElements(hobbits, expected)).isEmpty();
+  }
+
+  @Test
+  void should_return_actual_elements_not_equal_to_any_expected_element_with_a_comparator_not_defining_an_order() {
+    Comparator<String> equalityOnlyComparator = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    ComparatorBasedComparisonStrategy equalityOnlyComparisonStrategy = new ComparatorBasedComparisonStrategy(equalityOnlyComparator);
+    List<String> hobbits = newArrayList("Merry", "Frodo", "Sam", "Pippin");
+    List<String> expected = newArrayList("pippin", "SAM", "merry", "Bilbo");
+    assertThat(equalityOnlyComparisonStrategy.iterableUnexpectedElements(hobbits, expected)).containsExactly("Frodo");
+  }
+
+  @Test
+  void should_sort_expected_elements_with_a_user_comparator() {
+    AtomicInteger comparisons = new AtomicInteger();
+    Comparator<Integer> comparator = (i1, i2) -> {
+      comparisons.incrementAndGet();
+      return Integer.compare(i1 % 1000, i2 % 1000);
+    };
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    List<Integer> actual = IntStream.range(0, 1000).map(i -> i + 1000).boxed().collect(toList());
+    List<Integer> expected = IntStream.range(1, 1000).boxed().collect(toList());
+    assertThat(comparisonStrategy.iterableUnexpectedElements(actual, expected)).containsExactly(1000);
+    // sorting and binary searches instead of comparing each actual element to each expected element one by one
+    assertThat(comparisons).hasValueLessThan(50_000);
+  }
+
+  @Test
+  void should_only_compare_actual_elements_to_expected_elements_with_a_comparator_not_defining_an_order() {
+    List<String> comparedElementsOfTheSameSide = new ArrayList<>();
+    NonOrderingComparator<String> comparator = (s1, s2) -> {
+      if (s1.startsWith("actual") == s2.startsWith("actual")) comparedElementsOfTheSameSide.add(s1 + " and " + s2);
+      return s1.substring(s1.indexOf(' ')).compareTo(s2.substring(s2.indexOf(' ')));
+    };
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    List<String> actual = newArrayList("actual c", "actual a", "actual b");
+    List<String> expected = newArrayList("expected b", "expected d", "expected a");
+    assertThat(comparisonStrategy.iterableUnexpectedElements(actual, expected)).containsExactly("actual c");
+    assertThat(comparisonStrategy.iterableMissingElements(actual, expected)).containsExactly("expected d");
+    assertThat(comparedElementsOfTheSameSide).isEmpty();
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComparatorBasedComparisonStrategy#iterableUnmatchedActualElements(Iterable, Iterable)}.
+ */
+class ComparatorBasedComparisonStrategy_iterableUnmatchedActualElements_Test extends AbstractTest_ComparatorBasedComparisonStrategy {
+
+  @Test
+  void should_return_actual_elements_not_paired_with_an_expected_element_according_to_given_comparator() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", null, "Merry", "Sam", "merry");
+    List<String> expected = newArrayList("SAM", "merry", null, "MERRY");
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).containsExactly("Frodo",
+                                                                                                                    "merry");
+  }
+
+  @Test
+  void should_return_no_elements_if_all_actual_elements_are_paired_according_to_given_comparator() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", "Merry", "Sam");
+    List<String> expected = newArrayList("SAM", "merry", "frodo", "MERRY");
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).isEmpty();
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedExpectedElements(hobbits, expected)).isEmpty();
+  }
+
+  @Test
+  void should_return_actual_elements_not_paired_with_an_expected_element_with_a_comparator_not_defining_an_order() {
+    Comparator<String> equalityOnlyComparator = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    ComparatorBasedComparisonStrategy equalityOnlyComparisonStrategy = new ComparatorBasedComparisonStrategy(equalityOnlyComparator);
+    List<String> hobbits = newArrayList("Merry", "Sam", "Merry", "Pippin");
+    List<String> expected = newArrayList("pippin", "merry", "SAM", "Bilbo");
+    assertThat(equalityOnlyComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).containsExactly("Merry");
+    assertThat(equalityOnlyComparisonStrategy.iterableUnmatchedExpectedElements(hobbits, expected)).containsExactly("Bilbo");
+  }
+
+  @Test
+  void should_not_pair_an_expected_element_twice_with_a_comparator_whose_equality_is_not_transitive() {
+    NonOrderingComparator<Integer> closeToComparator = (i1, i2) -> Math.abs(i1 - i2) <= 6 ? 0 : Integer.compare(i1, i2);
+    ComparatorBasedComparisonStrategy closeToComparisonStrategy = new ComparatorBasedComparisonStrategy(closeToComparator);
+    List<Integer> actual = newArrayList(104, 100, 110);
+    List<Integer> expected = newArrayList(100, 105, 150);
+    assertThat(closeToComparisonStrategy.iterableUnmatchedActualElements(actual, expected)).containsExactly(110);
+  }
+
+  @Test
+  void should_return_actual_elements_not_paired_with_an_expected_element_with_a_comparator_defining_an_order() {
+    List<String> hobbits = newArrayList("Merry", "Frodo", null, "Merry", "Sam", "merry", null);
+    List<String> expected = newArrayList("SAM", "merry", null, "MERRY", "Bilbo");
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).containsExactly("Frodo",
+                                                                                                                   "merry",
+                                                                                                                   null);
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedExpectedElements(hobbits, expected)).containsExactly("Bilbo");
+  }
+
+  @Test
+  void should_only_compare_actual_elements_to_expected_elements_with_a_comparator_not_defining_an_order() {
+    List<String> comparedElementsOfTheSameSide = new ArrayList<>();
+    NonOrderingComparator<String> comparator = (s1, s2) -> {
+      if (s1.startsWith("actual") == s2.startsWith("actual")) comparedElementsOfTheSameSide.add(s1 + " and " + s2);
+      return s1.substring(s1.indexOf(' ')).compareTo(s2.substring(s2.indexOf(' ')));
+    };
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    List<String> actual = newArrayList("actual c", "actual a", "actual a");
+    List<String> expected = newArrayList("expected a", "expected d", "expected c");
+    assertThat(comparisonStrategy.iterableUnmatchedActualElements(actual, expected)).containsExactly("actual a");
+    assertThat(comparisonStrategy.iterableUnmatchedExpectedElements(actual, expected)).containsExactly("expected d");
+    assertThat(comparedElementsOfTheSameSide).isEmpty();
+  }
+
+  @Test
+  void should_pair_null_elements_with_each_other() {
+    List<String> hobbits = newArrayList("Merry", null, "Sam", null);
+    List<String> expected = newArrayList(null, "SAM", null, "merry");
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).isEmpty();
+    List<String> expectedWithOneNull = newArrayList("SAM", null, "merry");
+    assertThat(caseInsensitiveComparisonStrategy.iterableUnmatchedActualElements(hobbits, expectedWithOneNull)).containsExactly((String) null);
+  }
+
+}
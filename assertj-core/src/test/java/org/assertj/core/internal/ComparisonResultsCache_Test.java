@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.ComparisonResultsCache.MAX_CACHED_RESULTS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+
+class ComparisonResultsCache_Test {
+
+  private final ComparisonResultsCache comparisonResultsCache = new ComparisonResultsCache();
+  private final AtomicInteger comparisonsCount = new AtomicInteger();
+  private final BiPredicate<Object, Object> comparison = (actual, other) -> {
+    comparisonsCount.incrementAndGet();
+    return actual.equals(other);
+  };
+
+  @Test
+  void should_compare_the_same_pair_of_objects_once() {
+    // GIVEN
+    String actual = new String("foo");
+    String other = new String("foo");
+    // WHEN
+    boolean areEqual1 = comparisonResultsCache.areEqual(actual, other, comparison);
+    boolean areEqual2 = comparisonResultsCache.areEqual(actual, other, comparison);
+    // THEN
+    then(areEqual1).isTrue();
+    then(areEqual2).isTrue();
+    then(comparisonsCount).hasValue(1);
+  }
+
+  @Test
+  void should_identify_pairs_by_objects_identity() {
+    // GIVEN
+    String actual = new String("foo");
+    String other = new String("foo");
+    comparisonResultsCache.areEqual(actual, other, comparison);
+    // WHEN
+    boolean areEqual = comparisonResultsCache.areEqual(new String("foo"), other, comparison);
+    // THEN
+    then(areEqual).isTrue();
+    then(comparisonsCount).hasValue(2);
+  }
+
+  @Test
+  void should_distinguish_pairs_order() {
+    // GIVEN
+    String actual = "foo";
+    String other = "bar";
+    comparisonResultsCache.areEqual(actual, other, comparison);
+    // WHEN
+    boolean areEqual = comparisonResultsCache.areEqual(other, actual, comparison);
+    // THEN
+    then(areEqual).isFalse();
+    then(comparisonsCount).hasValue(2);
+  }
+
+  @Test
+  void should_support_null_objects() {
+    // GIVEN
+    BiPredicate<Object, Object> nullSafeComparison = (actual, other) -> {
+      comparisonsCount.incrementAndGet();
+      return actual == other;
+    };
+    // WHEN
+    boolean areEqual1 = comparisonResultsCache.areEqual(null, null, nullSafeComparison);
+    boolean areEqual2 = comparisonResultsCache.areEqual(null, null, nullSafeComparison);
+    // THEN
+    then(areEqual1).isTrue();
+    then(areEqual2).isTrue();
+    then(comparisonsCount).hasValue(1);
+  }
+
+  @Test
+  void should_not_cache_more_results_than_the_limit() {
+    // GIVEN
+    Object other = new Object();
+    for (int i = 0; i < MAX_CACHED_RESULTS + 10; i++) {
+      comparisonResultsCache.areEqual(new Object(), other, comparison);
+    }
+    // WHEN
+    int size = comparisonResultsCache.size();
+    // THEN
+    then(size).isEqualTo(MAX_CACHED_RESULTS);
+  }
+
+}
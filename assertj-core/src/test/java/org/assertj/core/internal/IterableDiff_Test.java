@@ -16,12 +16,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.api.recursive.comparison.RecursiveComparator;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 import org.assertj.core.testkit.CaseInsensitiveStringComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -142,9 +149,110 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_compare_each_pair_of_elements_once_with_a_recursive_comparator() {
+    // GIVEN
+    RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = spy(new RecursiveComparisonDifferenceCalculator());
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(new ConfigurableRecursiveFieldByFieldComparator(new RecursiveComparisonConfiguration(),
+                                                                                                              recursiveComparisonDifferenceCalculator));
+    actual = newArrayList(new String("#"), new String("$"));
+    expected = newArrayList(new String("$"), new String("#"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+    // both orders of the 3 pairs compared when looking for unexpected elements, the missing elements search reuses them
+    verify(recursiveComparisonDifferenceCalculator, times(6)).areEqual(any(), any(), any());
+  }
+
+  @Test
+  void should_use_recursive_comparator_subclasses_as_they_are() {
+    // GIVEN
+    RecursiveComparator caseInsensitiveComparator = new RecursiveComparator(new RecursiveComparisonConfiguration()) {
+      @Override
+      public int compare(Object actual, Object other) {
+        return CaseInsensitiveStringComparator.INSTANCE.compare((String) actual, (String) other);
+      }
+    };
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(caseInsensitiveComparator);
+    actual = newArrayList("a", "B");
+    expected = newArrayList("b", "A");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_use_recursive_field_by_field_comparator_subclasses_as_they_are() {
+    // GIVEN
+    ConfigurableRecursiveFieldByFieldComparator caseInsensitiveComparator = new ConfigurableRecursiveFieldByFieldComparator(new RecursiveComparisonConfiguration()) {
+      @Override
+      public int compare(Object actual, Object other) {
+        return CaseInsensitiveStringComparator.INSTANCE.compare((String) actual, (String) other);
+      }
+    };
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(caseInsensitiveComparator);
+    actual = newArrayList("a", "B");
+    expected = newArrayList("b", "A");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_differences_in_iterables_order_with_duplicate_elements() {
+    // GIVEN
+    actual = newArrayList("c", "a", "b", "a", "c", "d", "a");
+    expected = newArrayList("a", "e", "c", "b", "e", "f");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly("e", "e", "f");
+    assertThat(diff.unexpected).containsExactly("a", "c", "d", "a");
+  }
+
+  @Test
+  void should_compare_array_elements_by_content() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "a" }, new Object[] { new long[] { 3L } });
+    List<Object> expected = newArrayList(new Object[] { new long[] { 3L } }, new int[] { 1, 2 }, new String[] { "b" });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).singleElement().isEqualTo(new String[] { "b" });
+    assertThat(diff.unexpected).singleElement().isEqualTo(new String[] { "a" });
+  }
+
+  @Test
+  void should_compare_elements_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    List<Bar> actual = newArrayList(new Bar("a"), new Bar("b"));
+    List<Bar> expected = newArrayList(new Bar("b"), new Bar("c"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly(new Bar("c"));
+    assertThat(diff.unexpected).containsExactly(new Bar("a"));
+  }
+
   private class Foo {
   }
 
+  private static class Bar {
+    private final String name;
+
+    Bar(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Bar bar && name.equals(bar.name);
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
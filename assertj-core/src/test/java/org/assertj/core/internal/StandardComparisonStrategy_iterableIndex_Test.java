@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StandardComparisonStrategy#iterableIndex(Iterable)}.
+ */
+class StandardComparisonStrategy_iterableIndex_Test extends AbstractTest_StandardComparisonStrategy {
+
+  @Test
+  void should_tell_whether_iterable_contains_values() {
+    List<?> list = newArrayList("Sam", "Merry", null, "Frodo", new int[] { 1, 2 });
+    Predicate<Object> index = standardComparisonStrategy.iterableIndex(list);
+    assertThat(index.test("Frodo")).isTrue();
+    assertThat(index.test(null)).isTrue();
+    assertThat(index.test(new int[] { 1, 2 })).isTrue();
+    assertThat(index.test("Sauron")).isFalse();
+    assertThat(index.test(new int[] { 2, 1 })).isFalse();
+  }
+
+  @Test
+  void should_tell_whether_iterable_contains_values_whose_class_overrides_equals_but_not_hashCode() {
+    List<?> list = newArrayList(new Ring("One"), "Frodo");
+    Predicate<Object> index = standardComparisonStrategy.iterableIndex(list);
+    assertThat(index.test(new Ring("One"))).isTrue();
+    assertThat(index.test("Frodo")).isTrue();
+    assertThat(index.test(new Ring("Narya"))).isFalse();
+  }
+
+  @Test
+  void should_compare_the_iterable_elements_to_the_values_as_iterableContains_does() {
+    Predicate<Object> index = standardComparisonStrategy.iterableIndex(newArrayList(new Hobbit("Sam")));
+    assertThat(index.test(new AgedHobbit("Sam", 38))).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(newArrayList(new Hobbit("Sam")), new AgedHobbit("Sam", 38))).isTrue();
+  }
+
+  @Test
+  void should_tell_iterable_does_not_contain_values_if_iterable_is_null() {
+    assertThat(standardComparisonStrategy.iterableIndex(null).test("Sauron")).isFalse();
+  }
+
+  // equals without hashCode
+  private static class Ring {
+    private final String name;
+
+    private Ring(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Ring ring && ring.name.equals(name);
+    }
+  }
+
+  private static class Hobbit {
+    final String name;
+
+    Hobbit(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Hobbit hobbit && hobbit.name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+  }
+
+  // equals is not symmetric: a hobbit equals an aged hobbit with the same name, not the other way around
+  private static class AgedHobbit extends Hobbit {
+    private final int age;
+
+    AgedHobbit(String name, int age) {
+      super(name);
+      this.age = age;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof AgedHobbit agedHobbit && agedHobbit.name.equals(name) && agedHobbit.age == age;
+    }
+  }
+
+}
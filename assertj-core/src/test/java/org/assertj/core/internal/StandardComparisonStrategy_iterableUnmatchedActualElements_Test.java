@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.comparisonstrategy.IterableElementComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StandardComparisonStrategy#iterableUnmatchedActualElements(Iterable, Iterable)}.
+ */
+class StandardComparisonStrategy_iterableUnmatchedActualElements_Test extends AbstractTest_StandardComparisonStrategy {
+
+  @Test
+  void should_return_actual_elements_not_paired_with_an_expected_element() {
+    List<?> hobbits = newArrayList("Merry", "Frodo", null, "Merry", "Sam", null, new String[] { "Pippin" });
+    List<?> expected = newArrayList("Sam", "Merry", null, new String[] { "Pippin" });
+    assertThat(standardComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).containsExactly("Frodo",
+                                                                                                              "Merry",
+                                                                                                              null);
+  }
+
+  @Test
+  void should_return_actual_elements_not_paired_with_an_expected_element_whose_class_overrides_equals_but_not_hashCode() {
+    List<?> rings = newArrayList(new Ring("One"), new Ring("Narya"), new Ring("One"));
+    List<?> expected = newArrayList(new Ring("One"), new Ring("Narya"));
+    assertThat(standardComparisonStrategy.iterableUnmatchedActualElements(rings, expected)).containsExactly(new Ring("One"));
+  }
+
+  @Test
+  void should_pair_arrays_whose_elements_class_overrides_equals_but_not_hashCode() {
+    List<?> rings = newArrayList(new Ring[] { new Ring("One") }, new Object[] { new Object[] { new Ring("Narya") } });
+    List<?> expected = newArrayList(new Object[] { new Object[] { new Ring("Narya") } }, new Ring[] { new Ring("One") });
+    assertThat(standardComparisonStrategy.iterableUnmatchedActualElements(rings, expected)).isEmpty();
+    assertThat(standardComparisonStrategy.iterableUnmatchedExpectedElements(rings, expected)).isEmpty();
+  }
+
+  @Test
+  void should_compare_actual_elements_to_expected_elements_in_this_order() {
+    Hobbit agedFrodo = new AgedHobbit("Frodo", 50);
+    Hobbit frodo = new Hobbit("Frodo");
+    List<?> hobbits = newArrayList(new Hobbit("Sam"), agedFrodo);
+    List<?> expected = newArrayList(new AgedHobbit("Sam", 38), frodo);
+    assertThat(standardComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).containsExactly(agedFrodo);
+    assertThat(standardComparisonStrategy.iterableUnmatchedExpectedElements(hobbits, expected)).containsExactly(frodo);
+    assertThat(standardComparisonStrategy.iterableUnexpectedElements(hobbits, expected)).containsExactly(agedFrodo);
+    assertThat(standardComparisonStrategy.iterableMissingElements(hobbits, expected)).containsExactly(frodo);
+  }
+
+  @Test
+  void should_return_actual_elements_not_paired_with_an_expected_element_according_to_subclass_comparison() {
+    IterableElementComparisonStrategy<String> caseInsensitiveElementComparisonStrategy = new IterableElementComparisonStrategy<>(String.CASE_INSENSITIVE_ORDER);
+    List<?> actual = newArrayList(newArrayList("Frodo", "Sam"), newArrayList("Merry"));
+    List<?> expected = newArrayList(newArrayList("FRODO", "SAM"), newArrayList("Pippin"));
+    assertThat(caseInsensitiveElementComparisonStrategy.iterableUnmatchedActualElements(actual, expected)).containsExactly(newArrayList("Merry"));
+  }
+
+  @Test
+  void should_pair_elements_by_hash_code_with_a_subclass_not_overriding_areEqual() {
+    StandardComparisonStrategy subclassComparisonStrategy = new StandardComparisonStrategy() {};
+    AtomicInteger equalsCalls = new AtomicInteger();
+    List<Hobbit> hobbits = IntStream.range(0, 1000).mapToObj(i -> new CountedHobbit("Hobbit " + i, equalsCalls)).collect(toList());
+    List<Hobbit> expected = new ArrayList<>(hobbits);
+    Collections.reverse(expected);
+    assertThat(subclassComparisonStrategy.iterableUnmatchedActualElements(hobbits, expected)).isEmpty();
+    // pairing the elements one by one would take about 500 thousand equals calls
+    assertThat(equalsCalls).hasValueLessThan(10_000);
+  }
+
+  @Test
+  void should_compare_arrays_containing_themselves_one_by_one() {
+    Object[] selfContaining = new Object[] { "Sam", null };
+    selfContaining[1] = selfContaining;
+    List<?> actual = newArrayList("Frodo", selfContaining);
+    List<?> expected = newArrayList(selfContaining, "Merry");
+    assertThat(standardComparisonStrategy.iterableUnmatchedActualElements(actual, expected)).containsExactly("Frodo");
+    assertThat(standardComparisonStrategy.iterableUnmatchedExpectedElements(actual, expected)).containsExactly("Merry");
+  }
+
+  // equals without hashCode
+  private static class Ring {
+    private final String name;
+
+    private Ring(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Ring ring && ring.name.equals(name);
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private static class Hobbit {
+    final String name;
+
+    Hobbit(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Hobbit hobbit && hobbit.name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private static class CountedHobbit extends Hobbit {
+    private final AtomicInteger equalsCalls;
+
+    CountedHobbit(String name, AtomicInteger equalsCalls) {
+      super(name);
+      this.equalsCalls = equalsCalls;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      equalsCalls.incrementAndGet();
+      return super.equals(o);
+    }
+  }
+
+  // equals is not symmetric: a hobbit equals an aged hobbit with the same name, not the other way around
+  private static class AgedHobbit extends Hobbit {
+    private final int age;
+
+    AgedHobbit(String name, int age) {
+      super(name);
+      this.age = age;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof AgedHobbit agedHobbit && agedHobbit.name.equals(name) && agedHobbit.age == age;
+    }
+  }
+
+}
@@ -13,6 +13,7 @@
 package org.assertj.core.internal.iterables;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -26,7 +27,13 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
@@ -51,6 +58,15 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
     iterables.assertContainsExactlyInAnyOrder(someInfo(), actual, array("Leia", null, "Yoda", "Luke"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_array_values_exactly_in_any_order() {
+    // GIVEN
+    Iterable<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "Luke" }, new Object[] { new long[] { 3L } });
+    // WHEN/THEN
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), actual,
+                                              array(new Object[] { new long[] { 3L } }, new String[] { "Luke" }, new int[] { 1, 2 }));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     actual.clear();
@@ -171,4 +187,22 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
                                                                   comparisonStrategy));
   }
 
+  @Test
+  void should_sort_elements_with_a_user_comparator_instead_of_comparing_them_one_by_one() {
+    // GIVEN
+    AtomicInteger comparisons = new AtomicInteger();
+    Comparator<Integer> comparator = (i1, i2) -> {
+      comparisons.incrementAndGet();
+      return Integer.compare(i1, i2);
+    };
+    Iterables iterablesWithUserComparator = new Iterables(new ComparatorBasedComparisonStrategy(comparator));
+    List<Integer> actual = IntStream.range(0, 1000).boxed().collect(toList());
+    Object[] expected = IntStream.range(0, 1000).map(i -> (i * 7) % 1000).boxed().toArray();
+    // WHEN
+    iterablesWithUserComparator.assertContainsExactlyInAnyOrder(someInfo(), actual, expected);
+    // THEN
+    // pairing the elements one by one would take about a million comparisons
+    assertThat(comparisons).hasValueLessThan(100_000);
+  }
+
 }
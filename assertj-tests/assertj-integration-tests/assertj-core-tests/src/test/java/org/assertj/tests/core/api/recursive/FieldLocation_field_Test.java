@@ -13,6 +13,7 @@
 package org.assertj.tests.core.api.recursive;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
 
 import org.assertj.core.api.recursive.comparison.FieldLocation;
@@ -43,4 +44,37 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_build_field_path_for_root_array_element() {
+    // GIVEN
+    FieldLocation parentFieldLocation = rootFieldLocation().field("[1]");
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("name");
+    // THEN
+    then(childFieldLocation).isEqualTo(new FieldLocation(list("[1]", "name")));
+    then(childFieldLocation.getPathToUseInRules()).isEqualTo("name");
+    then(childFieldLocation.isTopLevelField()).isTrue();
+  }
+
+  @Test
+  void should_build_child_field_locations_equal_to_the_ones_built_from_their_path() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation(list("person", "children"));
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("[2]").field("name").field("first");
+    FieldLocation otherChildFieldLocation = parentFieldLocation.field("[2]").field("name").field("first");
+    // THEN
+    FieldLocation expected = new FieldLocation(list("person", "children", "[2]", "name", "first"));
+    then(childFieldLocation).isEqualTo(expected)
+                            .isEqualTo(otherChildFieldLocation)
+                            .hasSameHashCodeAs(expected)
+                            .isNotEqualTo(parentFieldLocation.field("[2]").field("name").field("last"))
+                            .isNotEqualTo(parentFieldLocation.field("[1]").field("name").field("first"));
+    then(expected).isEqualTo(childFieldLocation);
+    then(childFieldLocation.getDecomposedPath()).containsExactly("person", "children", "[2]", "name", "first")
+                                                .isEqualTo(expected.getDecomposedPath());
+    then(childFieldLocation.getPathToUseInErrorReport()).isEqualTo("person.children.[2].name.first");
+    then(childFieldLocation.getFieldName()).isEqualTo("first");
+  }
 }
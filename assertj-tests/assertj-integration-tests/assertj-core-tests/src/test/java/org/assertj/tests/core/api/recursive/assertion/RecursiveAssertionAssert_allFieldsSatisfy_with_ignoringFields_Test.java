@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -49,6 +51,41 @@ class RecursiveAssertionAssert_allFieldsSatisfy_with_ignoringFields_Test {
     then(error).hasMessageContaining("[address, address.number]");
   }
 
+  @Test
+  void should_ignore_the_fields_of_every_collection_element() {
+    // GIVEN
+    Person sherlock = new Person("Sherlock", "Detective", 60);
+    Person watson = new Person("Watson", "Doctor", 55);
+    watson.address.street = "Baker Street";
+    Team team = new Team(List.of(sherlock, watson));
+    // WHEN/THEN
+    then(team).usingRecursiveAssertion()
+              .ignoringFields("members.address.street")
+              .allFieldsSatisfy(Objects::nonNull);
+  }
+
+  @Test
+  void should_report_the_fields_of_collection_elements_not_ignored() {
+    // GIVEN
+    Person sherlock = new Person("Sherlock", null, 60);
+    Person watson = new Person("Watson", null, 55);
+    Team team = new Team(List.of(sherlock, watson));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> assertThat(team).usingRecursiveAssertion()
+                                                                      .ignoringFields("members.address")
+                                                                      .allFieldsSatisfy(Objects::nonNull));
+    // THEN
+    then(error).hasMessageContaining("[members.[0].occupation, members.[1].occupation]");
+  }
+
+  static class Team {
+    List<Person> members;
+
+    Team(List<Person> members) {
+      this.members = members;
+    }
+  }
+
   static class Person {
     String name;
     String occupation;
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RecursiveAssertionAssert_withMaxFailures_Test {
+
+  @Test
+  void should_stop_once_max_failures_have_been_found() {
+    // GIVEN
+    List<Person> persons = personsWithoutEmail(100);
+    AtomicInteger evaluatedFields = new AtomicInteger();
+    Predicate<Object> isNotNull = field -> evaluatedFields.incrementAndGet() > 0 && field != null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(persons).usingRecursiveAssertion()
+                                                                                  .withMaxFailures(2)
+                                                                                  .allFieldsSatisfy(isNotNull));
+    // THEN
+    then(assertionError).hasMessageContainingAll("[[0].email, [1].email]",
+                                                 "- the assertion was configured to stop after 2 failing fields");
+    // at most the first two persons and their fields
+    then(evaluatedFields).hasValueLessThanOrEqualTo(6);
+  }
+
+  @Test
+  void should_report_all_failures_when_there_are_less_than_max_failures() {
+    // GIVEN
+    List<Person> persons = personsWithoutEmail(3);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(persons).usingRecursiveAssertion()
+                                                                                  .withMaxFailures(5)
+                                                                                  .hasNoNullFields());
+    // THEN
+    then(assertionError).hasMessageContaining("[[0].email, [1].email, [2].email]");
+  }
+
+  @Test
+  void should_report_the_same_first_failures_when_asserting_in_parallel() {
+    // GIVEN
+    List<Person> persons = personsWithoutEmail(100);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(persons).usingRecursiveAssertion()
+                                                                                  .withParallelism(4)
+                                                                                  .withMaxFailures(3)
+                                                                                  .hasNoNullFields());
+    // THEN
+    then(assertionError).hasMessageContaining("[[0].email, [1].email, [2].email]");
+  }
+
+  @Test
+  void should_stop_asserting_the_next_elements_in_parallel_once_the_first_ones_have_found_max_failures() {
+    // GIVEN
+    List<Team> teams = IntStream.range(0, 1000).mapToObj(i -> new Team(i == 0 ? null : "team" + i, 100)).toList();
+    AtomicInteger evaluatedFields = new AtomicInteger();
+    Predicate<Object> isNotNull = field -> evaluatedFields.incrementAndGet() > 0 && field != null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(teams).usingRecursiveAssertion()
+                                                                                .withParallelism(4)
+                                                                                .withMaxFailures(1)
+                                                                                .allFieldsSatisfy(isNotNull));
+    // THEN
+    then(assertionError).hasMessageContaining("[[0].name]");
+    // the teams being asserted when the first team failure was found stop, the others are not asserted
+    then(evaluatedFields).hasValueLessThan(teams.size() * 10);
+  }
+
+  @Test
+  void should_fail_if_max_failures_is_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(personsWithoutEmail(1)).usingRecursiveAssertion().withMaxFailures(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("maxFailures must be greater than 0 but was 0");
+  }
+
+  private static List<Person> personsWithoutEmail(int count) {
+    return IntStream.range(0, count).mapToObj(i -> new Person("name" + i)).toList();
+  }
+
+  static class Team {
+    String name;
+    List<String> members;
+
+    Team(String name, int size) {
+      this.name = name;
+      this.members = IntStream.range(0, size).mapToObj(i -> "member" + i).toList();
+    }
+  }
+
+  static class Person {
+    String name;
+    String email;
+
+    Person(String name) {
+      this.name = name;
+    }
+  }
+}
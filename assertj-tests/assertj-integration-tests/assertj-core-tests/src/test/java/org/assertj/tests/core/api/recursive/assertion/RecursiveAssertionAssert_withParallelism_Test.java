@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RecursiveAssertionAssert_withParallelism_Test {
+
+  @Test
+  void should_pass_when_all_fields_satisfy_the_predicate() {
+    // GIVEN
+    List<Person> persons = persons(100);
+    // WHEN/THEN
+    assertThat(persons).usingRecursiveAssertion()
+                       .withParallelism(4)
+                       .allFieldsSatisfy(Objects::nonNull);
+  }
+
+  @Test
+  void should_report_the_same_failing_fields_as_the_sequential_assertion() {
+    // GIVEN
+    List<List<Person>> teams = IntStream.range(0, 20).mapToObj(team -> persons(50)).toList();
+    teams.get(3).get(7).email = null;
+    teams.get(12).get(0).email = null;
+    teams.get(12).get(49).name = null;
+    AssertionError sequentialError = expectAssertionError(() -> assertThat(teams).usingRecursiveAssertion()
+                                                                                 .allFieldsSatisfy(Objects::nonNull));
+    // WHEN
+    AssertionError parallelError = expectAssertionError(() -> assertThat(teams).usingRecursiveAssertion()
+                                                                               .withParallelism(4)
+                                                                               .allFieldsSatisfy(Objects::nonNull));
+    // THEN
+    then(sequentialError).hasMessageContainingAll("[3].[7].email", "[12].[0].email", "[12].[49].name");
+    then(parallelError.getMessage()).isEqualTo(sequentialError.getMessage()
+                                               + "- collection elements and map entries were asserted in parallel using 4 threads%n".formatted());
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(persons(1)).usingRecursiveAssertion().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was 0");
+  }
+
+  private static List<Person> persons(int count) {
+    return IntStream.range(0, count).mapToObj(i -> new Person("name" + i, "email" + i)).toList();
+  }
+
+  static class Person {
+    String name;
+    String email;
+
+    Person(String name, String email) {
+      this.name = name;
+      this.email = email;
+    }
+  }
+}
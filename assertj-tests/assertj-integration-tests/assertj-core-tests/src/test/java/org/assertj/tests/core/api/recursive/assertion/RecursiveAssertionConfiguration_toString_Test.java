@@ -51,7 +51,8 @@ class RecursiveAssertionConfiguration_toString_Test {
                                           .withCollectionAssertionPolicy(ELEMENTS_ONLY)
                                           .withMapAssertionPolicy(MAP_VALUES_ONLY)
                                           .withOptionalAssertionPolicy(OPTIONAL_VALUE_ONLY)
-                                          .withIntrospectionStrategy(new MyIntrospectionStrategy());
+                                          .withIntrospectionStrategy(new MyIntrospectionStrategy())
+                                          .withParallelism(4);
     // WHEN
     RecursiveAssertionConfiguration recursiveAssertionConfiguration = recursiveAssertionConfigurationBuilder.build();
     // THEN
@@ -65,7 +66,8 @@ class RecursiveAssertionConfiguration_toString_Test {
                                                              "- the collection assertion policy was ELEMENTS_ONLY%n" +
                                                              "- the map assertion policy was MAP_VALUES_ONLY%n" +
                                                              "- the optional assertion policy was OPTIONAL_VALUE_ONLY%n"+
-                                                             "- the introspection strategy used was: not introspecting anything!%n"));
+                                                             "- the introspection strategy used was: not introspecting anything!%n" +
+                                                             "- collection elements and map entries were asserted in parallel using 4 threads%n"));
     //@format:on
   }
 
@@ -83,6 +85,23 @@ class RecursiveAssertionConfiguration_toString_Test {
     // @format:on
   }
 
+  @Test
+  void should_describe_the_max_failures() {
+    // GIVEN
+    recursiveAssertionConfigurationBuilder.withMaxFailures(10);
+    // WHEN
+    RecursiveAssertionConfiguration recursiveAssertionConfiguration = recursiveAssertionConfigurationBuilder.build();
+    // THEN
+    // @format:off
+    then(recursiveAssertionConfiguration).hasToString(format("- fields from Java Class Library types (java.* or javax.*) were excluded in the recursive assertion%n" +
+                                                             "- the collection assertion policy was ELEMENTS_ONLY%n" +
+                                                             "- the map assertion policy was MAP_VALUES_ONLY%n"+
+                                                             "- the optional assertion policy was OPTIONAL_VALUE_ONLY%n"+
+                                                             "- the introspection strategy used was: DefaultRecursiveAssertionIntrospectionStrategy which introspects all fields (including inherited ones)%n" +
+                                                             "- the assertion was configured to stop after 10 failing fields%n"));
+    // @format:on
+  }
+
   static class MyIntrospectionStrategy implements RecursiveAssertionIntrospectionStrategy {
 
     @Override
@@ -19,6 +19,7 @@ import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldL
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.assertj.core.api.recursive.assertion.RecursiveAssertionDriver;
@@ -60,6 +61,30 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
     thenNoException().isThrownBy(() -> objectUnderTest.assertOverObjectGraph(boomOnOveruse, objectTree));
   }
 
+  @Test
+  void should_visit_every_distinct_node_even_if_they_are_equal() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    List<AlwaysEqual> objectTree = List.of(new AlwaysEqual(), new AlwaysEqual());
+    // WHEN
+    List<FieldLocation> failedFields = objectUnderTest.assertOverObjectGraph(node -> false, objectTree);
+    // THEN
+    then(failedFields).containsOnly(rootFieldLocation().field("[0]"), rootFieldLocation().field("[1]"));
+  }
+
+  @Test
+  void should_visit_every_distinct_node_of_a_large_graph() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    // large enough for some nodes to have the same identity hash code
+    List<Object> objectTree = Stream.generate(Object::new).limit(200_000).toList();
+    AtomicInteger evaluatedNodes = new AtomicInteger();
+    // WHEN
+    objectUnderTest.assertOverObjectGraph(node -> evaluatedNodes.incrementAndGet() > 0, objectTree);
+    // THEN
+    then(evaluatedNodes).hasValue(200_000);
+  }
+
   private Predicate<Object> predicateThatThrowsWhenCalledTooOften(int maxCalls) {
     AtomicInteger callLimit = new AtomicInteger(maxCalls - 1);
     return o -> {
@@ -68,4 +93,16 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
       return false;
     };
   }
+
+  static class AlwaysEqual {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof AlwaysEqual;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
 }
@@ -65,6 +65,20 @@ class ComparingFields_getChildNodeValue_Test {
                    .hasMessageContaining("Unable to obtain the value of the field <'publicStaticField'>");
   }
 
+  @Test
+  void getChildNodeValue_should_read_inherited_fields_and_honor_field_hiding() {
+    // GIVEN
+    SubFields node = new SubFields();
+    // WHEN / THEN
+    then(COMPARING_FIELDS.getChildNodeValue("privateField", node)).isEqualTo("privateField value");
+    then(COMPARING_FIELDS.getChildNodeValue("publicField", node)).isEqualTo("hiding publicField value");
+  }
+
+  @SuppressWarnings("unused")
+  static class SubFields extends Fields {
+    public final Object publicField = "hiding publicField value";
+  }
+
   @SuppressWarnings("unused")
   static class Fields {
     public static final Object publicStaticField = "publicStaticField value";
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Maps.newHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.recursive.comparison.DefaultRecursiveComparisonIntrospectionStrategy;
+import org.assertj.core.util.introspection.IntrospectionError;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class DefaultRecursiveComparisonIntrospectionStrategy_getChildNodeValue_Test {
+
+  private final DefaultRecursiveComparisonIntrospectionStrategy introspectionStrategy = new DefaultRecursiveComparisonIntrospectionStrategy();
+
+  @Test
+  void getChildNodeValue_should_read_property_before_field() {
+    // GIVEN
+    Person person = new Person("Jack");
+    // WHEN
+    Object value = introspectionStrategy.getChildNodeValue("name", person);
+    // THEN
+    then(value).isEqualTo("Mr Jack");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_field_when_there_is_no_public_getter() {
+    // GIVEN
+    Person person = new Person("Jack");
+    // WHEN / THEN
+    then(introspectionStrategy.getChildNodeValue("age", person)).isEqualTo(42);
+    then(introspectionStrategy.getChildNodeValue("nickname", person)).isEqualTo("Jacky");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_the_values_of_each_instance() {
+    // GIVEN
+    Person jack = new Person("Jack");
+    Person jill = new Person("Jill");
+    // WHEN / THEN
+    then(introspectionStrategy.getChildNodeValue("name", jack)).isEqualTo("Mr Jack");
+    then(introspectionStrategy.getChildNodeValue("name", jill)).isEqualTo("Mr Jill");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_field_when_getter_throws_an_exception() {
+    // GIVEN
+    Person person = new Person(null);
+    // WHEN
+    Object value = introspectionStrategy.getChildNodeValue("name", person);
+    // THEN
+    then(value).isNull();
+  }
+
+  @Test
+  void getChildNodeValue_should_report_getter_exception_when_there_is_no_field() {
+    // GIVEN
+    Person person = new Person(null);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> introspectionStrategy.getChildNodeValue("initial", person));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessageContaining("Unable to invoke getter getInitial");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_map_value_when_getter_throws_an_exception_and_there_is_no_field() {
+    // GIVEN
+    Settings settings = new Settings();
+    settings.put("mode", "strict");
+    // WHEN
+    Object value = introspectionStrategy.getChildNodeValue("mode", settings);
+    // THEN
+    then(value).isEqualTo("strict");
+    then(settings.calls).isEqualTo(1);
+  }
+
+  @Test
+  void getChildNodeValue_should_report_getter_exception_when_there_is_no_field_nor_map_entry() {
+    // GIVEN
+    Settings settings = new Settings();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> introspectionStrategy.getChildNodeValue("mode", settings));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessageContaining("Unable to invoke getter getMode");
+    then(settings.calls).isEqualTo(1);
+  }
+
+  @Test
+  void getChildNodeValue_should_invoke_the_getter_once_when_it_throws_an_exception() {
+    // GIVEN
+    Counter counter = new Counter();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> introspectionStrategy.getChildNodeValue("next", counter));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessageContaining("Unable to invoke getter getNext");
+    then(counter.calls).isEqualTo(1);
+  }
+
+  @Test
+  void getChildNodeValue_should_propagate_errors_thrown_by_the_getter() {
+    // GIVEN
+    Counter counter = new Counter();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> introspectionStrategy.getChildNodeValue("overflow", counter));
+    // THEN
+    then(throwable).isInstanceOf(StackOverflowError.class);
+    then(counter.calls).isEqualTo(1);
+  }
+
+  @Test
+  void getChildNodeValue_should_read_optional_value() {
+    // GIVEN
+    Optional<String> optional = Optional.of("value");
+    // WHEN
+    Object value = introspectionStrategy.getChildNodeValue("value", optional);
+    // THEN
+    then(value).isEqualTo("value");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_map_value() {
+    // GIVEN
+    Map<String, String> map = newHashMap("key", "value");
+    // WHEN
+    Object value = introspectionStrategy.getChildNodeValue("key", map);
+    // THEN
+    then(value).isEqualTo("value");
+  }
+
+  static class Person {
+    private final String name;
+    private final int age = 42;
+    private final String nickname = "Jacky";
+
+    Person(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return "Mr " + name.toString();
+    }
+
+    public char getInitial() {
+      return name.charAt(0);
+    }
+
+    String getNickname() {
+      return "not public";
+    }
+  }
+
+  static class Counter {
+    private int calls;
+
+    public int getNext() {
+      calls++;
+      throw new IllegalStateException("boom");
+    }
+
+    public int getOverflow() {
+      calls++;
+      throw new StackOverflowError();
+    }
+  }
+
+  static class Settings extends HashMap<String, Object> {
+    private int calls;
+
+    public String getMode() {
+      calls++;
+      throw new IllegalStateException("no mode field");
+    }
+  }
+
+}
@@ -15,6 +15,7 @@ package org.assertj.tests.core.api.recursive.comparison;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.comparison.RecursiveComparator;
@@ -73,6 +74,38 @@ class RecursiveComparator_compare_Test {
     then(compareResult2).isNotZero();
   }
 
+  @Test
+  void should_compare_objects_with_cycles() {
+    // GIVEN
+    RecursiveComparator recursiveComparator = new RecursiveComparator(new RecursiveComparisonConfiguration());
+    Person actual = neighbours("jack", "john");
+    Person same = neighbours("jack", "john");
+    Person other = neighbours("jack", "jim");
+    // WHEN
+    int compareResult1 = recursiveComparator.compare(actual, same);
+    int compareResult2 = recursiveComparator.compare(actual, other);
+    // THEN
+    then(compareResult1).isZero();
+    then(compareResult2).isNotZero();
+  }
+
+  @Test
+  void should_compare_unordered_collections_elements_recursively() {
+    // GIVEN
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    RecursiveComparator recursiveComparator = new RecursiveComparator(recursiveComparisonConfiguration);
+    List<Person> actual = List.of(neighbours("jack", "john"), neighbours("jim", "joe"));
+    List<Person> same = List.of(neighbours("jim", "joe"), neighbours("jack", "john"));
+    List<Person> other = List.of(neighbours("jim", "joe"), neighbours("jack", "jill"));
+    // WHEN
+    int compareResult1 = recursiveComparator.compare(actual, same);
+    int compareResult2 = recursiveComparator.compare(actual, other);
+    // THEN
+    then(compareResult1).isZero();
+    then(compareResult2).isNotZero();
+  }
+
   @Test
   void should_return_non_zero_when_one_object_is_null_and_the_other_is_not() {
     // GIVEN
@@ -86,4 +119,11 @@ class RecursiveComparator_compare_Test {
     then(compareResult2).isNotZero();
   }
 
+  private static Person neighbours(String name, String neighbourName) {
+    Person person = new Person(name);
+    person.neighbour = new Person(neighbourName);
+    person.neighbour.neighbour = person;
+    return person;
+  }
+
 }
@@ -30,8 +30,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.core.api.recursive.comparison.FieldComparators;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.groups.Tuple;
@@ -211,6 +213,49 @@ class RecursiveComparisonAssert_fluent_API_Test {
     assertThat(configuration.getIgnoreCollectionOrder()).isTrue();
   }
 
+  @Test
+  void should_allow_to_match_collection_elements_by_fingerprint() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .ignoringCollectionOrder()
+                                                                       .matchingCollectionElementsByFingerprint()
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.isMatchingCollectionElementsByFingerprint()).isTrue();
+  }
+
+  @Test
+  void should_allow_to_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .withParallelism(4)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_allow_to_set_maxDifferences() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .withMaxDifferences(10)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getMaxDifferences()).isEqualTo(10);
+  }
+
+  @Test
+  void should_allow_to_set_a_difference_listener() {
+    // GIVEN
+    Consumer<ComparisonDifference> differenceListener = difference -> {};
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison()
+                                                                       .withDifferenceListener(differenceListener)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getDifferenceListener()).isSameAs(differenceListener);
+  }
+
   @Test
   void should_allow_to_ignore_collection_order_in_fields() {
     // GIVEN
@@ -19,7 +19,9 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.tests.core.testkit.Maps.mapOf;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.assertj.tests.core.api.recursive.data.Person;
 import org.assertj.tests.core.api.recursive.data.PersonDto;
@@ -86,6 +88,35 @@ class RecursiveComparisonAssert_for_maps_Test {
                     .isEqualTo(mapB);
   }
 
+  @Test
+  void should_compare_sorted_maps_entries_in_order_when_some_entries_are_ignored() {
+    // GIVEN
+    Map<String, Object> mapA = new TreeMap<>(Map.of("b", 1, "ba", 2, "c", 3, "description", "foo"));
+    Map<String, Object> mapB = new TreeMap<>(Map.of("b", 1, "bb", 2, "c", 3, "description", "bar"));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(mapA).usingRecursiveComparison()
+                                                                               .ignoringFields("description")
+                                                                               .isEqualTo(mapB));
+    // THEN
+    then(assertionError).hasMessageContaining(format("map key difference:%n"
+                                                     + "- actual key  : \"ba\"%n"
+                                                     + "- expected key: \"bb\""))
+                        .hasMessageNotContaining("- actual key  : \"c\"");
+  }
+
+  @Test
+  void should_honor_the_map_keys_equality_when_some_entries_are_ignored() {
+    // GIVEN
+    Map<String, Object> mapA = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    mapA.put("Foo", "bar");
+    mapA.put("description", "foobar");
+    Map<String, Object> mapB = new HashMap<>(Map.of("foo", "bar", "description", "barfoo"));
+    // WHEN/THEN
+    assertThat(mapA).usingRecursiveComparison()
+                    .ignoringFields("description")
+                    .isEqualTo(mapB);
+  }
+
   @Test
   public void should_repor_missing_keys_as_missing_fields() {
     // GIVEN
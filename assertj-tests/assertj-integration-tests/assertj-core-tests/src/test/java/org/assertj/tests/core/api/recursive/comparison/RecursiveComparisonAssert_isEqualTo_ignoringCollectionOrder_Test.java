@@ -550,4 +550,35 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                                      "  [Item(Shoes, 2)]"));
   }
 
+  @Test
+  void should_fail_when_an_actual_element_would_have_to_match_several_expected_elements() {
+    // GIVEN
+    List<Outer> actual = list(new Outer(new Inner(1)), new Outer(new Inner(1)), new Outer(new Inner(2)));
+    List<Outer> expected = list(new Outer(new Inner(2)), new Outer(new Inner(1)), new Outer(new Inner(2)));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .ignoringCollectionOrder()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [OI2]"));
+  }
+
+  @Test
+  void should_fail_when_elements_sharing_already_compared_values_differ() {
+    // GIVEN
+    Inner i1 = new Inner(1);
+    Inner i2 = new Inner(2);
+    // the first match attempt compares i1 to i2, comparing them again must not consider them equal
+    List<Outer> actual = list(new Outer(i1), new Outer(i2), new Outer(i1));
+    List<Outer> expected = list(new Outer(i2), new Outer(i1), new Outer(i2));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .ignoringCollectionOrder()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [OI2]"));
+  }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_matchingCollectionElementsByFingerprint_Test
+    extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_pass_when_elements_hash_code_is_computed_from_ignored_fields() {
+    // GIVEN
+    List<Entity> actual = list(new Entity(1, "Sherlock Holmes", list("detective", "violinist")),
+                               new Entity(2, "Dr. John Watson", list("doctor")),
+                               new Entity(3, "Molly Hooper", list()));
+    List<Entity> expected = list(new Entity(4, "Molly Hooper", list()),
+                                 new Entity(5, "Sherlock Holmes", list("violinist", "detective")),
+                                 new Entity(6, "Dr. John Watson", list("doctor")));
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .ignoringFields("id")
+                .ignoringCollectionOrder()
+                .matchingCollectionElementsByFingerprint()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_an_expected_element_is_not_in_actual() {
+    // GIVEN
+    List<Entity> actual = list(new Entity(1, "Sherlock Holmes", list()), new Entity(2, "Dr. John Watson", list()));
+    List<Entity> expected = list(new Entity(3, "Dr. John Watson", list()), new Entity(4, "Molly Hooper", list()));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .ignoringFields("id")
+                                                                                 .ignoringCollectionOrder()
+                                                                                 .matchingCollectionElementsByFingerprint()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [Entity[Molly Hooper]]"));
+  }
+
+  @Test
+  void should_pass_when_elements_are_equal_according_to_custom_comparators() {
+    // GIVEN
+    List<Entity> actual = list(new Entity(1, "SHERLOCK HOLMES", list()), new Entity(2, "dr. john watson", list()));
+    List<Entity> expected = list(new Entity(3, "Dr. John Watson", list()), new Entity(4, "Sherlock Holmes", list()));
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .ignoringFields("id")
+                .withComparatorForFields(CASE_INSENSITIVE_ORDER, "name")
+                .ignoringCollectionOrder()
+                .matchingCollectionElementsByFingerprint()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_pass_when_an_expected_element_only_matches_an_actual_element_first_matched_by_another_expected_element() {
+    // GIVEN
+    BiPredicate<Integer, Integer> zeroMatchesAnyQuantity = (actualQuantity, expectedQuantity) -> expectedQuantity == 0
+                                                                                                 || actualQuantity.equals(expectedQuantity);
+    // the first expected item matches both actual items but the second one only matches the first actual item
+    List<Item> actual = list(new Item("Shoes", 1), new Item("Shoes", 2));
+    List<Item> expected = list(new Item("Shoes", 0), new Item("Shoes", 1));
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withEqualsForFields(zeroMatchesAnyQuantity, "quantity")
+                .ignoringCollectionOrder()
+                .matchingCollectionElementsByFingerprint()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_actual_elements_can_only_match_the_same_expected_element() {
+    // GIVEN
+    BiPredicate<Integer, Integer> zeroMatchesAnyQuantity = (actualQuantity, expectedQuantity) -> expectedQuantity == 0
+                                                                                                 || actualQuantity.equals(expectedQuantity);
+    List<Item> actual = list(new Item("Shoes", 1), new Item("Shoes", 2));
+    List<Item> expected = list(new Item("Shoes", 1), new Item("Shoes", 1));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withEqualsForFields(zeroMatchesAnyQuantity,
+                                                                                                      "quantity")
+                                                                                 .ignoringCollectionOrder()
+                                                                                 .matchingCollectionElementsByFingerprint()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [Item[name=Shoes, quantity=1]]"));
+  }
+
+  static class Entity {
+    int id;
+    String name;
+    List<String> tags;
+
+    Entity(int id, String name, List<String> tags) {
+      this.id = id;
+      this.name = name;
+      this.tags = tags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Entity entity && id == entity.id;
+    }
+
+    @Override
+    public int hashCode() {
+      return Integer.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+      return "Entity[%s]".formatted(name);
+    }
+  }
+
+  // no equals/hashCode to not pair items by hash code
+  static class Item {
+    String name;
+    int quantity;
+
+    Item(String name, int quantity) {
+      this.name = name;
+      this.quantity = quantity;
+    }
+
+    @Override
+    public String toString() {
+      return "Item[name=%s, quantity=%s]".formatted(name, quantity);
+    }
+  }
+
+}
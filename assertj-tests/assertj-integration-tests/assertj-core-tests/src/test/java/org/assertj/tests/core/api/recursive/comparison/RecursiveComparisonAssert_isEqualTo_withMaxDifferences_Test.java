@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withMaxDifferences_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private final RecursiveComparisonDifferenceCalculator differenceCalculator = new RecursiveComparisonDifferenceCalculator();
+
+  @Test
+  void should_only_describe_maxDifferences_differences_and_mention_there_may_be_more() {
+    // GIVEN
+    List<Person> actual = persons(10);
+    List<Person> expected = persons(10);
+    expected.forEach(person -> person.home.address.number = -1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withMaxDifferences(3)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContainingAll("found the following 3 differences:",
+                                                 "the comparison stopped after finding 3 differences, there may be more")
+                        .hasMessageNotContaining("more differences");
+  }
+
+  @Test
+  void should_describe_all_differences_when_there_are_less_than_maxDifferences() {
+    // GIVEN
+    List<Person> actual = persons(10);
+    List<Person> expected = persons(10);
+    expected.get(4).name = "Jack";
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withMaxDifferences(3)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("field/property '[4].name' differ:")
+                        .hasMessageNotContaining("more difference")
+                        .hasMessageNotContaining("the comparison stopped");
+  }
+
+  @Test
+  void should_count_the_differences_not_described_when_a_difference_listener_is_set() {
+    // GIVEN
+    List<Person> actual = persons(10);
+    List<Person> expected = persons(10);
+    expected.forEach(person -> person.home.address.number = -1);
+    List<ComparisonDifference> notifiedDifferences = new ArrayList<>();
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withMaxDifferences(3)
+                                                                                 .withDifferenceListener(notifiedDifferences::add)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContainingAll("found the following 10 differences:", "and 7 more differences")
+                        .hasMessageNotContaining("the comparison stopped");
+    then(notifiedDifferences).hasSize(10);
+  }
+
+  @Test
+  void should_stop_the_comparison_once_maxDifferences_differences_are_found() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.forEach(person -> person.name = "Jack");
+    AtomicInteger comparedNames = new AtomicInteger();
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withMaxDifferences(5)
+                                                                                     .withEqualsForFields((name1, name2) -> {
+                                                                                       comparedNames.incrementAndGet();
+                                                                                       return name1.equals(name2);
+                                                                                     }, "name")
+                                                                                     .build();
+    // WHEN
+    List<ComparisonDifference> differences = differenceCalculator.determineDifferences(actual, expected, configuration);
+    // THEN
+    then(differences).hasSize(5);
+    then(comparedNames).hasValue(5);
+  }
+
+  @Test
+  void should_keep_maxDifferences_differences_of_the_whole_comparison() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    for (int i = 0; i < 100; i += 3) {
+      expected.get(i).name = "name " + i;
+      expected.get(i).home.address.number = i;
+    }
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withMaxDifferences(5)
+                                                                                     .build();
+    // WHEN
+    List<ComparisonDifference> differences = differenceCalculator.determineDifferences(actual, expected, configuration);
+    // THEN
+    List<ComparisonDifference> allDifferences = differenceCalculator.determineDifferences(actual, expected,
+                                                                                          new RecursiveComparisonConfiguration());
+    then(differences).hasSize(5)
+                     .isSorted()
+                     .isSubsetOf(allDifferences);
+  }
+
+  @Test
+  void should_stop_the_comparison_of_elements_compared_in_parallel_once_maxDifferences_differences_are_found() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.forEach(person -> person.name = "Jack");
+    AtomicInteger comparedNames = new AtomicInteger();
+    BiPredicate<String, String> namesEquals = (name1, name2) -> {
+      comparedNames.incrementAndGet();
+      return name1.equals(name2);
+    };
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withMaxDifferences(5)
+                                                                                     .withParallelism(4)
+                                                                                     .withEqualsForFields(namesEquals, "name")
+                                                                                     .build();
+    // WHEN
+    List<ComparisonDifference> differences = differenceCalculator.determineDifferences(actual, expected, configuration);
+    // THEN
+    // each task compares its elements until it finds 5 differences
+    then(comparedNames.get()).isLessThan(100);
+    RecursiveComparisonConfiguration sequentialConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                               .withMaxDifferences(5)
+                                                                                               .withEqualsForFields(namesEquals,
+                                                                                                                    "name")
+                                                                                               .build();
+    then(differences).isEqualTo(differenceCalculator.determineDifferences(actual, expected, sequentialConfiguration));
+  }
+
+  @Test
+  void should_notify_the_listener_of_all_differences() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.forEach(person -> person.name = "Jack");
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withMaxDifferences(5)
+                                                                                     .build();
+    List<ComparisonDifference> notifiedDifferences = new ArrayList<>();
+    // WHEN
+    List<ComparisonDifference> differences = differenceCalculator.determineDifferences(actual, expected, configuration,
+                                                                                       notifiedDifferences::add);
+    // THEN
+    then(differences).hasSize(5);
+    then(notifiedDifferences).hasSize(100)
+                             .containsAll(differences);
+  }
+
+  @Test
+  void should_notify_the_configured_listener_of_all_differences_of_elements_compared_in_parallel() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.forEach(person -> person.name = "Jack");
+    List<ComparisonDifference> notifiedDifferences = new ArrayList<>();
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withMaxDifferences(5)
+                                                                                     .withParallelism(4)
+                                                                                     .withDifferenceListener(notifiedDifferences::add)
+                                                                                     .build();
+    // WHEN
+    List<ComparisonDifference> differences = differenceCalculator.determineDifferences(actual, expected, configuration);
+    // THEN
+    then(differences).hasSize(5);
+    then(notifiedDifferences).hasSize(100)
+                             .containsAll(differences);
+  }
+
+  private static List<Person> persons(int size) {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Person person = new Person("person " + i);
+      person.home.address.number = i;
+      persons.add(person);
+    }
+    return persons;
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_pass_when_map_values_are_equal() {
+    // GIVEN
+    Map<String, Person> actual = personsByName(100);
+    Map<String, Person> expected = personsByName(100);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_some_collection_elements_differ() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.get(42).home.address.number = 43;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withParallelism(4)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("field/property '[42].home.address.number' differ:");
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    for (int i = 0; i < 100; i += 7) {
+      expected.get(i).name = "name " + i;
+      expected.get(i).neighbour.home.address.number = i;
+    }
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                             .withParallelism(4)
+                                                                                             .build();
+    RecursiveComparisonConfiguration sequentialConfiguration = new RecursiveComparisonConfiguration();
+    RecursiveComparisonDifferenceCalculator differenceCalculator = new RecursiveComparisonDifferenceCalculator();
+    // WHEN
+    List<ComparisonDifference> differences = differenceCalculator.determineDifferences(actual, expected, parallelConfiguration);
+    // THEN
+    then(differences).isEqualTo(differenceCalculator.determineDifferences(actual, expected, sequentialConfiguration));
+  }
+
+  @Test
+  void should_detect_cycles_in_collection_elements() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  // each person has a neighbour whose neighbour is the person itself
+  private static List<Person> persons(int size) {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Person person = new Person("person " + i);
+      person.neighbour = new Person("neighbour " + i);
+      person.neighbour.neighbour = person;
+      persons.add(person);
+    }
+    return persons;
+  }
+
+  private static Map<String, Person> personsByName(int size) {
+    Map<String, Person> personsByName = new HashMap<>();
+    persons(size).forEach(person -> personsByName.put(person.name, person));
+    return personsByName;
+  }
+
+}
@@ -19,6 +19,8 @@ import static org.assertj.core.util.Lists.list;
 import java.util.List;
 import java.util.stream.Stream;
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -96,6 +98,66 @@ class RecursiveComparisonAssert_isEqualTo_with_arrays_Test extends RecursiveComp
                                   "expected field is an array but actual field is not (java.util.ArrayList)"));
   }
 
+  @Test
+  void should_only_report_the_different_elements_of_primitive_arrays() {
+    // GIVEN
+    int[] actualValues = new int[10_000];
+    int[] expectedValues = new int[10_000];
+    expectedValues[10] = 1;
+    expectedValues[9_000] = 2;
+    WithPrimitiveArray actual = new WithPrimitiveArray(actualValues);
+    WithPrimitiveArray expected = new WithPrimitiveArray(expectedValues);
+    // WHEN/THEN
+    compareRecursivelyFailsWithDifferences(actual, expected,
+                                           javaTypeDiff("values.[10]", 0, 1),
+                                           javaTypeDiff("values.[9000]", 0, 2));
+  }
+
+  @Test
+  void should_honor_type_comparators_when_comparing_primitive_arrays_elements() {
+    // GIVEN
+    WithPrimitiveArray actual = new WithPrimitiveArray(new double[] { 1.0, 2.0, 3.0 });
+    WithPrimitiveArray expected = new WithPrimitiveArray(new double[] { 1.0, 2.2, 3.0 });
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withComparatorForType(new DoubleComparator(0.5), Double.class)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_compare_primitive_arrays_elements_with_the_default_double_comparator() {
+    // GIVEN
+    WithPrimitiveArray actual = new WithPrimitiveArray(new double[] { 0.0, 1.0 });
+    WithPrimitiveArray expected = new WithPrimitiveArray(new double[] { -0.0, 1.0 });
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_honor_ignored_types_when_comparing_primitive_arrays_elements() {
+    // GIVEN
+    WithPrimitiveArray actual = new WithPrimitiveArray(new long[] { 1, 2, 3 });
+    WithPrimitiveArray expected = new WithPrimitiveArray(new long[] { 1, 5, 3 });
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .ignoringFieldsOfTypes(Long.class)
+                .isEqualTo(expected);
+  }
+
+  public static class WithPrimitiveArray {
+    public Object values;
+
+    public WithPrimitiveArray(Object values) {
+      this.values = values;
+    }
+
+    @Override
+    public String toString() {
+      return "WithPrimitiveArray";
+    }
+  }
+
   public static class WithArray<E> {
     public E[] group;
 
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_with_frozen_configuration_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private static final RecursiveComparisonConfiguration FROZEN_CONFIGURATION = RecursiveComparisonConfiguration.builder()
+                                                                                                               .withIgnoredFields("name")
+                                                                                                               .build()
+                                                                                                               .frozen();
+
+  @Test
+  void should_use_the_frozen_configuration() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("Jack");
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(FROZEN_CONFIGURATION)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_leave_the_frozen_configuration_untouched_when_the_assertion_configuration_is_modified() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    // WHEN
+    assertThat(actual).usingRecursiveComparison(FROZEN_CONFIGURATION)
+                      .ignoringFields("home.address.number")
+                      .isEqualTo(expected);
+    // THEN
+    then(FROZEN_CONFIGURATION.isFrozen()).isTrue();
+    then(FROZEN_CONFIGURATION.getIgnoredFields()).containsExactly("name");
+    expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(FROZEN_CONFIGURATION)
+                                                 .isEqualTo(expected));
+  }
+
+  @Test
+  void should_share_a_frozen_configuration_between_assertions_running_in_different_threads() throws Exception {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withIgnoredFields("name")
+                                                                                     .withComparedFields("name", "home.address")
+                                                                                     .build()
+                                                                                     .frozen();
+    Callable<Boolean> comparison = () -> {
+      Person actual = new Person("John");
+      Person expected = new Person("Jack");
+      expected.home.address.number = actual.home.address.number;
+      assertThat(actual).usingRecursiveComparison(configuration)
+                        .isEqualTo(expected);
+      return true;
+    };
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      // WHEN
+      List<Future<Boolean>> comparisons = executorService.invokeAll(IntStream.range(0, 100)
+                                                                             .mapToObj(i -> comparison)
+                                                                             .toList());
+      // THEN
+      for (Future<Boolean> result : comparisons) {
+        then(result.get()).isTrue();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void should_not_let_a_comparison_affect_the_next_ones_using_the_same_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withComparedTypes(Person.class)
+                                                                                     .build()
+                                                                                     .frozen();
+    // value is a compared type in this comparison ...
+    assertThat(new Holder(new Person("John"))).usingRecursiveComparison(configuration)
+                                              .isEqualTo(new Holder(new Person("John")));
+    // ... but not in this one where its differences must be ignored
+    Holder actual = new Holder(new Holder("John"));
+    Holder expected = new Holder(new Holder("Jack"));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(configuration)
+                      .isEqualTo(expected);
+  }
+
+  static class Holder {
+    final Object value;
+
+    Holder(Object value) {
+      this.value = value;
+    }
+  }
+
+}
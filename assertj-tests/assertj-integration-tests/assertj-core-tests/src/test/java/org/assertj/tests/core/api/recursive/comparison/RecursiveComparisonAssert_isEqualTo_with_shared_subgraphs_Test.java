@@ -0,0 +1,184 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.DualValue;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_with_shared_subgraphs_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_use_the_field_comparator_on_a_shared_node_already_met_at_another_location() {
+    // GIVEN
+    Node sharedNode = tree(1, 3);
+    Pair actual = new Pair(sharedNode, sharedNode);
+    Pair expected = new Pair(sharedNode, sharedNode);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withEqualsForFields((n1, n2) -> false, "first")
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("field/property 'first' differ:");
+  }
+
+  @Test
+  void should_use_the_field_comparator_on_a_shared_node_met_again_at_another_location() {
+    // GIVEN
+    Node sharedNode = tree(1, 3);
+    Pair actual = new Pair(sharedNode, sharedNode);
+    Pair expected = new Pair(sharedNode, sharedNode);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withEqualsForFields((n1, n2) -> false, "second")
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("field/property 'second' differ:");
+  }
+
+  @Test
+  void should_compare_shared_nodes_having_a_custom_comparator() {
+    // GIVEN
+    Node sharedNode = tree(2, 3);
+    Tree actual = new Tree(sharedNode);
+    Tree expected = new Tree(sharedNode);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withEqualsForFields((n1, n2) -> false, "root")
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("field/property 'root' differ:");
+  }
+
+  @Test
+  void should_only_register_the_collection_elements_not_shared_with_the_expected_snapshot() {
+    // GIVEN
+    List<Node> snapshot = tree(1, 100).children;
+    List<Node> actual = new ArrayList<>(snapshot);
+    actual.set(5, new Node("changed", new ArrayList<>()));
+    CountingConfiguration configuration = new CountingConfiguration();
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                             snapshot,
+                                                                                                             configuration);
+    // THEN
+    then(differences).singleElement()
+                     .extracting(ComparisonDifference::getConcatenatedPath)
+                     .isEqualTo("[5].name");
+    // the lists (evaluated before being registered and when registered), element [5] and its name and children
+    then(configuration.registeredValues).isEqualTo(5);
+  }
+
+  @Test
+  void should_only_register_the_sorted_map_values_not_shared_with_the_expected_snapshot() {
+    // GIVEN
+    SortedMap<String, Node> snapshot = new TreeMap<>();
+    for (int i = 0; i < 100; i++) {
+      snapshot.put("node" + i, tree("node" + i, 1, 3));
+    }
+    SortedMap<String, Node> actual = new TreeMap<>(snapshot);
+    actual.put("node5", new Node("changed", snapshot.get("node5").children));
+    CountingConfiguration configuration = new CountingConfiguration();
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                             snapshot,
+                                                                                                             configuration);
+    // THEN
+    then(differences).singleElement()
+                     .extracting(ComparisonDifference::getConcatenatedPath)
+                     .isEqualTo("node5.name");
+    // the maps (evaluated before being registered and when registered), node5 value and its name and children
+    then(configuration.registeredValues).isEqualTo(5);
+  }
+
+  @Test
+  void should_compare_shared_collection_elements_having_a_custom_comparator() {
+    // GIVEN
+    List<Node> sharedNodes = tree(1, 3).children;
+    List<Node> actual = new ArrayList<>(sharedNodes);
+    List<Node> expected = new ArrayList<>(sharedNodes);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withEqualsForType((n1, n2) -> false, Node.class)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("element at index 0 differ:")
+                        .hasMessageContaining("element at index 2 differ:");
+  }
+
+  private static Node tree(int depth, int width) {
+    return tree("root", depth, width);
+  }
+
+  private static Node tree(String name, int depth, int width) {
+    List<Node> children = new ArrayList<>();
+    if (depth > 0) {
+      for (int i = 0; i < width; i++) {
+        children.add(tree(name + "." + i, depth - 1, width));
+      }
+    }
+    return new Node(name, children);
+  }
+
+  static class Node {
+    final String name;
+    final List<Node> children;
+
+    Node(String name, List<Node> children) {
+      this.name = name;
+      this.children = children;
+    }
+  }
+
+  static class Pair {
+    final Node first;
+    final Node second;
+
+    Pair(Node first, Node second) {
+      this.first = first;
+      this.second = second;
+    }
+  }
+
+  static class Tree {
+    final Node root;
+
+    Tree(Node root) {
+      this.root = root;
+    }
+  }
+
+  // the configuration is asked whether to evaluate each value registered for comparison
+  static class CountingConfiguration extends RecursiveComparisonConfiguration {
+
+    int registeredValues;
+
+    @Override
+    public boolean shouldNotEvaluate(DualValue dualValue) {
+      registeredValues++;
+      return super.shouldNotEvaluate(dualValue);
+    }
+  }
+
+}
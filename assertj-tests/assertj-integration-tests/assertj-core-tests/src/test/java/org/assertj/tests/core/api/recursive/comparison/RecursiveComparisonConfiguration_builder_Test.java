@@ -21,9 +21,11 @@ import static org.assertj.tests.core.testkit.BiPredicates.STRING_EQUALS;
 import java.util.Comparator;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.RandomUtils;
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration.Builder;
@@ -92,6 +94,60 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getIgnoreCollectionOrder()).isEqualTo(value);
   }
 
+  @Test
+  void should_set_matchCollectionElementsByFingerprint() {
+    // GIVEN
+    boolean value = RandomUtils.nextBoolean();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withMatchCollectionElementsByFingerprint(value).build();
+    // THEN
+    then(configuration.isMatchingCollectionElementsByFingerprint()).isEqualTo(value);
+  }
+
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fail_to_set_parallelism_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> configBuilder().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was 0");
+  }
+
+  @Test
+  void should_set_maxDifferences() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withMaxDifferences(10).build();
+    // THEN
+    then(configuration.getMaxDifferences()).isEqualTo(10);
+  }
+
+  @Test
+  void should_fail_to_set_maxDifferences_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> configBuilder().withMaxDifferences(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("maxDifferences must be greater than 0 but was 0");
+  }
+
+  @Test
+  void should_set_differenceListener() {
+    // GIVEN
+    Consumer<ComparisonDifference> differenceListener = difference -> {};
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withDifferenceListener(differenceListener).build();
+    // THEN
+    then(configuration.getDifferenceListener()).isSameAs(differenceListener);
+  }
+
   @Test
   void should_set_ignoreCollectionOrderInFields() {
     // GIVEN
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.testkit.AlwaysEqualComparator.ALWAYS_EQUALS;
+
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.tests.core.testkit.AbsValueComparator;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonConfiguration_frozen_Test {
+
+  @Test
+  void should_return_a_frozen_copy_equal_to_the_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withIgnoredFields("id")
+                                                                                     .withComparedFields("name")
+                                                                                     .withComparatorForFields(ALWAYS_EQUALS, "name")
+                                                                                     .withErrorMessageForType("bad type", Integer.class)
+                                                                                     .build();
+    // WHEN
+    RecursiveComparisonConfiguration frozenConfiguration = configuration.frozen();
+    // THEN
+    then(frozenConfiguration).isNotSameAs(configuration)
+                             .isEqualTo(configuration);
+    then(frozenConfiguration.isFrozen()).isTrue();
+    then(configuration.isFrozen()).isFalse();
+    then(frozenConfiguration.frozen()).isSameAs(frozenConfiguration);
+  }
+
+  @Test
+  void should_not_be_affected_by_changes_to_the_configuration_it_was_frozen_from() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreFields("id");
+    RecursiveComparisonConfiguration frozenConfiguration = configuration.frozen();
+    // WHEN
+    configuration.ignoreFields("name");
+    configuration.registerComparatorForType(new AbsValueComparator<Integer>(), Integer.class);
+    configuration.registerErrorMessageForFields("bad name", "name");
+    // THEN
+    then(frozenConfiguration.getIgnoredFields()).containsExactly("id");
+    then(frozenConfiguration.hasComparatorForType(Integer.class)).isFalse();
+    then(frozenConfiguration.hasCustomMessageForField("name")).isFalse();
+  }
+
+  @Test
+  void should_fail_to_modify_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = new RecursiveComparisonConfiguration().frozen();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> frozenConfiguration.ignoreFields("name"));
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class)
+                   .hasMessage("This recursive comparison configuration is frozen and can't be modified, use unfrozen() to get a modifiable copy");
+    then(frozenConfiguration.getIgnoredFields()).isEmpty();
+  }
+
+  @Test
+  void should_fail_to_register_comparators_in_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = new RecursiveComparisonConfiguration().frozen();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> frozenConfiguration.registerComparatorForType(ALWAYS_EQUALS, Object.class));
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class);
+    then(frozenConfiguration.hasComparatorForType(Object.class)).isFalse();
+  }
+
+  @Test
+  void should_not_let_the_getters_modify_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                           .withIgnoredFields("id")
+                                                                                           .withComparedFields("name")
+                                                                                           .build()
+                                                                                           .frozen();
+    // WHEN
+    Throwable ignoredFieldsChange = catchThrowable(() -> frozenConfiguration.getIgnoredFields().add("name"));
+    Throwable comparedFieldsChange = catchThrowable(() -> frozenConfiguration.getComparedFields().clear());
+    Throwable ignoredTypesChange = catchThrowable(() -> frozenConfiguration.getIgnoredTypes().add(String.class));
+    frozenConfiguration.getFieldComparators().registerComparator("name", ALWAYS_EQUALS);
+    // THEN
+    then(ignoredFieldsChange).isInstanceOf(UnsupportedOperationException.class);
+    then(comparedFieldsChange).isInstanceOf(UnsupportedOperationException.class);
+    then(ignoredTypesChange).isInstanceOf(UnsupportedOperationException.class);
+    then(frozenConfiguration.getIgnoredFields()).containsExactly("id");
+    then(frozenConfiguration.getComparedFields()).hasSize(1);
+    then(frozenConfiguration.getIgnoredTypes()).isEmpty();
+    then(frozenConfiguration.hasComparatorForField("name")).isFalse();
+  }
+
+  @Test
+  void should_return_a_modifiable_copy_of_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                           .withIgnoredFields("id")
+                                                                                           .build()
+                                                                                           .frozen();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = frozenConfiguration.unfrozen();
+    configuration.ignoreFields("name");
+    // THEN
+    then(configuration.isFrozen()).isFalse();
+    then(configuration.getIgnoredFields()).containsExactly("id", "name");
+    then(frozenConfiguration.getIgnoredFields()).containsExactly("id");
+    then(configuration.unfrozen()).isSameAs(configuration);
+  }
+
+  @Test
+  void should_find_the_type_comparators_of_subtypes_in_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                           .withComparatorForType(ALWAYS_EQUALS,
+                                                                                                                  Number.class)
+                                                                                           .build()
+                                                                                           .frozen();
+    // WHEN/THEN
+    then(frozenConfiguration.getComparatorForType(Integer.class)).isSameAs(ALWAYS_EQUALS);
+    then(frozenConfiguration.getComparatorForType(Integer.class)).isSameAs(ALWAYS_EQUALS);
+    then(frozenConfiguration.getComparatorForType(String.class)).isNull();
+    then(frozenConfiguration.hasComparatorForType(String.class)).isFalse();
+  }
+
+}
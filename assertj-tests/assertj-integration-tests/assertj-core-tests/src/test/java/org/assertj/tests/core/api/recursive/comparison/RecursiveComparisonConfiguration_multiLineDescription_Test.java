@@ -419,6 +419,36 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal");
   }
 
+  @Test
+  void should_show_that_collection_elements_are_matched_by_fingerprint() {
+    // GIVEN
+    recursiveComparisonConfiguration.matchCollectionElementsByFingerprint(true);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- collection elements compared ignoring order were matched by their structural fingerprint first%n".formatted());
+  }
+
+  @Test
+  void should_show_parallelism() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- collection elements and map values were compared in parallel using 4 threads%n".formatted());
+  }
+
+  @Test
+  void should_show_maxDifferences() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(10);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- at most 10 differences were reported%n".formatted());
+  }
+
   // just to test the description does not fail when given a comparator with various String.format reserved flags
   private static class PercentageComparator implements Comparator<Double> {
 
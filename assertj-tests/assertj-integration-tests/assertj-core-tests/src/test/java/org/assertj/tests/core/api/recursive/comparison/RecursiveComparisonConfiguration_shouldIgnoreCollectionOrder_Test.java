@@ -88,6 +88,20 @@ class RecursiveComparisonConfiguration_shouldIgnoreCollectionOrder_Test {
                      arguments(fieldLocation("father", "name", "first"), array("father", "name.first", "father.name.first")));
   }
 
+  @Test
+  void should_ignore_collection_order_in_fields_registered_after_a_field_was_evaluated() {
+    // GIVEN
+    FieldLocation fieldLocation = new FieldLocation("foo.bar");
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("foo");
+    boolean ignoredBeforeRegisteringFooBar = recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation);
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("foo.bar");
+    // WHEN
+    boolean ignored = recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation);
+    // THEN
+    assertThat(ignoredBeforeRegisteringFooBar).isFalse();
+    assertThat(ignored).isTrue();
+  }
+
   @Test
   void should_register_ignore_collection_order_in_fields_matching_regexes_without_replacing_previous() {
     // WHEN
@@ -128,6 +128,20 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
                      arguments(dualValueWithPath("father", "name", "first"), list("father", "name.first", "father.name.first")));
   }
 
+  @Test
+  void should_ignore_fields_registered_after_a_field_was_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("name", "first");
+    recursiveComparisonConfiguration.ignoreFields("foo");
+    boolean ignoredBeforeRegisteringName = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("nam.");
+    // WHEN
+    boolean ignored = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    then(ignoredBeforeRegisteringName).isFalse();
+    then(ignored).isTrue();
+  }
+
   @ParameterizedTest(name = "{0} should not be ignored with these ignored fields {1}")
   @MethodSource
   void should_not_ignore_specified_fields(DualValue dualValue, List<String> ignoredFields) {
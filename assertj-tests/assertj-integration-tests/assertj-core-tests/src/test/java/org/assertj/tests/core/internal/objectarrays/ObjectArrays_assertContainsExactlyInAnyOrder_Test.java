@@ -44,6 +44,13 @@ class ObjectArrays_assertContainsExactlyInAnyOrder_Test extends ObjectArraysBase
                                            array("Leia", null, "Yoda", "Luke"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_array_values_exactly_in_any_order() {
+    arrays.assertContainsExactlyInAnyOrder(INFO,
+                                           array(new int[] { 1, 2 }, new String[] { "Luke" }, null),
+                                           array(null, new String[] { "Luke" }, new int[] { 1, 2 }));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     arrays.assertContainsExactlyInAnyOrder(INFO, array(), array());
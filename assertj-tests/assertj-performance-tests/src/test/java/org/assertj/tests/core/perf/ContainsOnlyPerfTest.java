@@ -17,7 +17,11 @@ import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -34,6 +38,10 @@ import org.junit.jupiter.api.Timeout;
  * Therefore, 5 seconds (the limit used in the tests below) seems to be a good threshold that would
  * clearly distinguish .containsOnly(...) being O(N) or O(N^2) on any test agent, thus preventing
  * a regression of .containsOnly(...) back to O(N^2) complexity.
+ * <p>
+ * The same goes for assertions comparing 1 million actual elements to 10 thousand expected values, looking for each value
+ * in the actual elements would take O(10 billion) comparisons. With a custom comparator, the elements are sorted with it
+ * so that each value is looked for by binary search.
  *
  * @see <a href="https://github.com/assertj/assertj/issues/1718">assertj/assertj#1718</a>
  */
@@ -60,4 +68,83 @@ class ContainsOnlyPerfTest {
                        .containsOnly(0, 1);
   }
 
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_1mElements_10kExpectedValues() {
+    assertThat(elementsCycling(1_000_000, 10_000)).containsOnly(values(0, 10_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_1mElements_10kExpectedValues_usingCustomComparator() {
+    assertThat(elementsCycling(1_000_000, 10_000)).usingElementComparator(Integer::compare)
+                                                  .containsOnly(values(0, 10_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_1mElements_10kExpectedValues() {
+    assertThat(elementsCycling(1_000_000, 10_000)).isSubsetOf(values(0, 10_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_1mElements_10kExpectedValues_usingCustomComparator() {
+    assertThat(elementsCycling(1_000_000, 10_000)).usingElementComparator(Integer::compare)
+                                                  .isSubsetOf(values(0, 10_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_100kElements_usingCustomComparator() {
+    // pairing the elements one by one would take O(10 billion) comparisons
+    List<Integer> objects = elementsCycling(100_000, 100_000);
+    Integer[] values = values(0, 100_000);
+    Collections.reverse(Arrays.asList(values));
+    assertThat(objects).usingElementComparator(Integer::compare)
+                       .containsExactlyInAnyOrder(values);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_1mElements_10kValues() {
+    assertThat(elementsCycling(1_000_000, 10_000)).doesNotContain(values(10_000, 20_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_1mElements_10kValues_usingCustomComparator() {
+    assertThat(elementsCycling(1_000_000, 10_000)).usingElementComparator(Integer::compare)
+                                                  .doesNotContain(values(10_000, 20_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsAnyOf_1mElements_10kValues() {
+    // only the last actual element is one of the values
+    List<Integer> objects = elementsCycling(1_000_000, 1_000_000);
+    assertThat(objects).containsAnyOf(values(999_999, 1_009_999));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsAnyOf_1mElements_10kValues_usingCustomComparator() {
+    // only the last actual element is one of the values
+    List<Integer> objects = elementsCycling(1_000_000, 1_000_000);
+    assertThat(objects).usingElementComparator(Integer::compare)
+                       .containsAnyOf(values(999_999, 1_009_999));
+  }
+
+  private static List<Integer> elementsCycling(int size, int distinctElements) {
+    final List<Integer> objects = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      objects.add(i % distinctElements);
+    }
+    return objects;
+  }
+
+  private static Integer[] values(int startInclusive, int endExclusive) {
+    return IntStream.range(startInclusive, endExclusive).boxed().toArray(Integer[]::new);
+  }
+
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that comparing large collections with {@code usingRecursiveComparison().ignoringCollectionOrder()}
+ * is close to an O(N) operation when the elements hash codes are meaningful, that is the actual elements are indexed by
+ * hash code once and each expected element is only compared to the actual elements of its hash bucket.
+ * <p>
+ * Rebuilding the index for each expected element makes the comparison of 20k elements take several dozens of seconds
+ * while it should take around a second, 5 seconds is thus a good threshold to detect a regression.
+ */
+class RecursiveComparisonPerfTest {
+
+  @Test
+  @Timeout(value = 5)
+  void test_ignoringCollectionOrder_20kElements() {
+    // GIVEN
+    int size = 20_000;
+    List<Item> actual = new ArrayList<>();
+    List<Item> expected = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      actual.add(new Item("item-" + i, i));
+      expected.add(new Item("item-" + (size - 1 - i), size - 1 - i));
+    }
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  record Item(String name, int quantity) {
+  }
+
+}